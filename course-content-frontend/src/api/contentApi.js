@@ -34,8 +34,12 @@ export const googleLogin = (token) => api.post("/auth/google", { token });
 export const changePassword = (data) => api.put("/users/password", data);
 // --- CONTENT MANAGEMENT ---
 
-// ✅ FIXED: Correct Endpoint (/my-contents)
-export const fetchMyContents = () => api.get("/content/my-contents");
+// Cursor-paginated: pass back nextCursor from the previous slice
+export const fetchMyContents = (cursor) =>
+  api.get("/content/my-contents", { params: { cursor, size: 20 } });
+
+// Dashboard header totals (uploads, likes, comments)
+export const fetchMyContentsSummary = () => api.get("/content/my-contents/summary");
 
 //// Fetch ALL contents (Public Feed)
 //export const fetchContents = () => api.get("/content");
@@ -73,7 +77,9 @@ export const updateProfilePicture = (formData) => api.post("/users/profile-pictu
 
 // --- SOCIAL INTERACTIONS ---
 export const toggleLike = (id) => api.post(`/interactions/${id}/like`);
-export const getComments = (id) => api.get(`/interactions/${id}/comments`);
+// Newest first; pass the previous response's nextCursor to load older comments
+export const getComments = (id, cursor) =>
+  api.get(`/interactions/${id}/comments`, { params: { cursor, size: 20 } });
 export const addComment = (id, text) => api.post(`/interactions/${id}/comment`, { content: text });
 
 // --- NOTIFICATIONS ---
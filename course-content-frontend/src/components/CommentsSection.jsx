@@ -6,7 +6,9 @@ import { getComments, addComment } from "../api/contentApi";
 function CommentsSection({ contentId, onCommentAdded }) {
   const [comments, setComments] = useState([]);
   const [newComment, setNewComment] = useState("");
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [sending, setSending] = useState(false);
 
   // Fetch comments automatically when this component renders
@@ -20,7 +22,8 @@ function CommentsSection({ contentId, onCommentAdded }) {
     setLoading(true);
     try {
       const res = await getComments(contentId);
-      setComments(res.data);
+      setComments(res.data.items);
+      setNextCursor(res.data.nextCursor);
     } catch (error) {
       console.error("Failed to load comments", error);
     } finally {
@@ -28,6 +31,20 @@ function CommentsSection({ contentId, onCommentAdded }) {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    try {
+      const res = await getComments(contentId, nextCursor);
+      setComments((prev) => [...prev, ...res.data.items]);
+      setNextCursor(res.data.nextCursor);
+    } catch (error) {
+      console.error("Failed to load more comments", error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleSubmit = async (e) => {
     e.preventDefault();
     if (!newComment.trim()) return;
@@ -120,6 +137,16 @@ function CommentsSection({ contentId, onCommentAdded }) {
             </div>
           ))
         )}
+        {nextCursor && !loading && (
+          <button
+            type="button"
+            onClick={loadMore}
+            disabled={loadingMore}
+            className="w-full text-center text-xs text-sky-600 hover:text-sky-700 disabled:opacity-50 py-1"
+          >
+            {loadingMore ? "Loading..." : "Load older comments"}
+          </button>
+        )}
       </div>
     </div>
   );
@@ -1,6 +1,6 @@
 import React, { useState, useEffect, useMemo } from "react";
 import { useNavigate } from "react-router-dom";
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from "@tanstack/react-query";
 import toast from "react-hot-toast";
 import { motion } from "framer-motion"; // ✨ Animation Library
 
@@ -18,6 +18,7 @@ import { useDebounce } from "../hooks/useDebounce"; // ✨ Performance Hook
 // API
 import {
   fetchMyContents,
+  fetchMyContentsSummary,
   deleteContent,
   generateSummary,
   getSummary,
@@ -40,10 +41,29 @@ function Dashboard() {
   const [profileOpen, setProfileOpen] = useState(false);
 
   // --- DATA FETCHING (MY CONTENTS) ---
-  const { data, isLoading, isError } = useQuery({
+  const {
+    data: pages,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+    isLoading,
+    isError,
+  } = useInfiniteQuery({
     queryKey: ["my-contents"],
+    queryFn: async ({ pageParam }) => {
+      const res = await fetchMyContents(pageParam);
+      return res.data;
+    },
+    initialPageParam: undefined,
+    getNextPageParam: (lastPage) => (lastPage.hasNext ? lastPage.nextCursor : undefined),
+  });
+  const data = useMemo(() => pages?.pages.flatMap((page) => page.items) || [], [pages]);
+
+  // Totals for the header (all uploads, not just the loaded slices)
+  const { data: summary } = useQuery({
+    queryKey: ["my-contents", "summary"],
     queryFn: async () => {
-      const res = await fetchMyContents();
+      const res = await fetchMyContentsSummary();
       return res.data;
     },
   });
@@ -218,7 +238,7 @@ function Dashboard() {
                   My Course Materials
                 </h2>
                 <span className="bg-sky-100 dark:bg-sky-900/30 text-sky-700 dark:text-sky-300 px-3 py-1 rounded-full text-xs font-bold shadow-sm">
-                  {filteredContents.length} Files
+                  {summary ? summary.totalUploads : filteredContents.length} Files
                 </span>
               </div>
 
@@ -259,6 +279,18 @@ function Dashboard() {
                 onShowSummary={handleShowSummary}
               />
             )}
+
+            {hasNextPage && (
+              <div className="flex justify-center pt-4">
+                <button
+                  onClick={() => fetchNextPage()}
+                  disabled={isFetchingNextPage}
+                  className="bg-white dark:bg-slate-800 text-slate-600 dark:text-slate-200 px-6 py-2.5 rounded-full shadow-sm border border-slate-200 dark:border-slate-700 hover:bg-slate-50 dark:hover:bg-slate-700 transition-all text-sm font-medium disabled:opacity-50"
+                >
+                  {isFetchingNextPage ? "Loading..." : "Load More"}
+                </button>
+              </div>
+            )}
           </motion.div>
         </div>
       </main>
@@ -0,0 +1,11 @@
+package com.silverline.task.coursecontent.cache;
+
+/**
+ * Tells the other nodes that an entry (or a whole cache) changed, so they drop their L1 copy.
+ */
+public interface CacheInvalidationPublisher {
+
+    void publishEvict(String cacheName, String key);
+
+    void publishClear(String cacheName);
+}
@@ -0,0 +1,177 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis value codec for one cache: Jackson binary (Smile) encoding of a known value type,
+ * optionally deflate-compressed, behind a 3-byte header:
+ * <pre>[magic 0xCC][schema version][flags: bit0 = compressed, bit1 = cached null] payload...</pre>
+ * Values written under another schema version (or by the old JDK serializer) decode as a cache miss
+ * instead of failing, so old and new nodes can share Redis during a rolling deploy.
+ * <p>
+ * Metrics (tag cache=&lt;name&gt;): cache.codec.serialized.size (bytes stored),
+ * cache.codec.time{op=encode|decode}, cache.codec.rejected (undecodable values served as misses).
+ */
+public class CacheValueCodec implements RedisSerializer<Object> {
+
+    // Bump whenever a cached value class changes incompatibly (renamed/retyped fields)
+    public static final byte SCHEMA_VERSION = 2; // 2: feed windows hold content IDs instead of DTOs
+
+    private static final Logger log = LoggerFactory.getLogger(CacheValueCodec.class);
+
+    private static final byte MAGIC = (byte) 0xCC;
+    private static final byte FLAG_COMPRESSED = 1;
+    private static final byte FLAG_NULL_VALUE = 2;
+    private static final int HEADER_LENGTH = 3;
+
+    private final String cacheName;
+    private final ObjectMapper binaryMapper;
+    private final JavaType valueType;
+    private final boolean compression;
+    private final int compressMinBytes;
+    private final MeterRegistry meterRegistry;
+
+    public CacheValueCodec(String cacheName, ObjectMapper binaryMapper, JavaType valueType,
+                           boolean compression, int compressMinBytes, MeterRegistry meterRegistry) {
+        this.cacheName = cacheName;
+        this.binaryMapper = binaryMapper;
+        this.valueType = valueType;
+        this.compression = compression;
+        this.compressMinBytes = compressMinBytes;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof NullValue) {
+            return new byte[]{MAGIC, SCHEMA_VERSION, FLAG_NULL_VALUE};
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] payload = binaryMapper.writerFor(valueType).writeValueAsBytes(value);
+            byte flags = 0;
+            if (compression && payload.length >= compressMinBytes) {
+                byte[] compressed = deflate(payload);
+                if (compressed.length < payload.length) {
+                    payload = compressed;
+                    flags = FLAG_COMPRESSED;
+                }
+            }
+
+            byte[] out = new byte[HEADER_LENGTH + payload.length];
+            out[0] = MAGIC;
+            out[1] = SCHEMA_VERSION;
+            out[2] = flags;
+            System.arraycopy(payload, 0, out, HEADER_LENGTH, payload.length);
+            serializedSize().record(out.length);
+            return out;
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode value for cache " + cacheName, e);
+        } finally {
+            timer("encode").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != SCHEMA_VERSION) {
+            return reject("unknown format or schema version");
+        }
+        if ((bytes[2] & FLAG_NULL_VALUE) != 0) {
+            return NullValue.INSTANCE;
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            if ((bytes[2] & FLAG_COMPRESSED) != 0) {
+                payload = inflate(payload);
+            }
+            return binaryMapper.readValue(payload, valueType);
+        } catch (IOException | DataFormatException e) {
+            return reject(e.getMessage());
+        } finally {
+            timer("decode").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // A value we can't read is just a miss: the caller reloads and overwrites it
+    private Object reject(String reason) {
+        log.debug("Ignoring undecodable value in cache {}: {}", cacheName, reason);
+        meterRegistry.counter("cache.codec.rejected", "cache", cacheName).increment();
+        return null;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed value");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private DistributionSummary serializedSize() {
+        return DistributionSummary.builder("cache.codec.serialized.size")
+                .description("Size of cache values as stored in Redis (header included)")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String op) {
+        return Timer.builder("cache.codec.time")
+                .description("Time spent encoding/decoding cache values")
+                .tag("cache", cacheName)
+                .tag("op", op)
+                .register(meterRegistry);
+    }
+}
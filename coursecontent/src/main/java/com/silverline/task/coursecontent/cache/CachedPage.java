@@ -0,0 +1,21 @@
+package com.silverline.task.coursecontent.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Cached form of an offset page: just the items and the total. PageImpl/Pageable carry no
+// deserialization support, so the Page is rebuilt from the request's Pageable on every read.
+public class CachedPage<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<T> items;
+    private long total;
+}
@@ -0,0 +1,70 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The newest comments of each item (the hot first page), keyed by content ID plus its comments version
+ * ({@link ContentVersions#commentsVersion}). Holds up to {@link #HEAD_SIZE} + 1 comments, newest first:
+ * the extra one tells readers whether a next page exists.
+ * <p>
+ * Entries are never updated in place: a new comment bumps the version after commit, so the next reader loads
+ * a fresh head under the new key. A loader that started before the commit can only write the OLD key, which
+ * nobody reads any more and which expires with the cache TTL.
+ * <p>
+ * Metrics: comment.page.cache.requests{result=hit|miss}.
+ */
+@Component
+public class CommentPageCache {
+
+    public static final String CACHE_NAME = "contentComments";
+
+    // First-page requests up to this size are served from the cached head
+    public static final int HEAD_SIZE = 20;
+
+    private final CacheManager cacheManager;
+    private final ContentVersions contentVersions;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CommentPageCache(CacheManager cacheManager, ContentVersions contentVersions, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.contentVersions = contentVersions;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    // loader must return at most HEAD_SIZE + 1 comments, newest first
+    @SuppressWarnings("unchecked")
+    public List<CommentResponseDTO> getHead(Long contentId, Supplier<List<CommentResponseDTO>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        String key = contentId + ":" + contentVersions.commentsVersion(contentId); // version read BEFORE loading
+        List<CommentResponseDTO> cached = (cache != null) ? cache.get(key, List.class) : null;
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        List<CommentResponseDTO> loaded = loader.get();
+        if (cache != null) {
+            cache.put(key, new ArrayList<>(loaded));
+        }
+        return loaded;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("comment.page.cache.requests")
+                .description("First comment page lookups by result")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentCounters;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-item like/comment counters, kept apart from cached feed pages.
+ * Likes and comments evict a single entry here instead of wiping every cached page;
+ * feed pages only go stale when their membership changes (upload/delete).
+ */
+@Component
+public class ContentCounterCache {
+
+    public static final String CACHE_NAME = "contentCounters";
+
+    private final CourseContentRepository repository;
+    private final CacheManager cacheManager;
+
+    public ContentCounterCache(CourseContentRepository repository, CacheManager cacheManager) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+    }
+
+    // Cached counters first, then ONE query for whatever is missing
+    public Map<Long, ContentCounters> getCounters(Collection<Long> contentIds) {
+        Map<Long, ContentCounters> result = new HashMap<>();
+        if (contentIds.isEmpty()) {
+            return result;
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : contentIds) {
+            ContentCounters cached = (cache != null) ? cache.get(id, ContentCounters.class) : null;
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (ContentCounters loaded : repository.findCountersByIdIn(missing)) {
+                result.put(loaded.getContentId(), loaded);
+                if (cache != null) {
+                    cache.put(loaded.getContentId(), loaded);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Evicts after the surrounding transaction commits, so a concurrent reader can't re-cache the old count
+    public void evict(Long contentId) {
+        AfterCommit.run(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.evict(contentId);
+            }
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache for shared (non-personalized) feed windows. Offset pages and keyset slices store only the
+ * ordered content IDs; the items themselves live in {@link ContentItemCache}.
+ * Lives in its own bean so lookups never depend on Spring proxies (a @Cacheable helper
+ * called from inside the service is bypassed by self-invocation).
+ * <p>
+ * Metrics (tag cache=contentFeed|contentFeedCursor|contentFeedBody):
+ * content.feed.cache.requests{result=hit|miss}, content.feed.cache.load (timer),
+ * content.feed.cache.entry.size (IDs per cached window), content.feed.cache.entry.bytes (serialized bodies).
+ */
+@Component
+public class ContentFeedCache {
+
+    public static final String PAGE_CACHE = "contentFeed";
+    public static final String CURSOR_CACHE = "contentFeedCursor";
+    public static final String BODY_CACHE = "contentFeedBody";
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final Duration bodyTtl;
+
+    public ContentFeedCache(CacheManager cacheManager, MeterRegistry meterRegistry,
+                            @Value("${app.cache.feed-body.ttl:PT30S}") Duration bodyTtl) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.bodyTtl = bodyTtl;
+    }
+
+    // Offset feed page IDs, keyed "page-size". Stored as a CachedPage and re-wrapped with the caller's Pageable
+    public Page<Long> getPageIds(Pageable pageable, Supplier<Page<Long>> loader) {
+        CachedPage<Long> cached = get(PAGE_CACHE, pageable.getPageNumber() + "-" + pageable.getPageSize(),
+                () -> {
+                    Page<Long> loaded = loader.get();
+                    return new CachedPage<>(loaded.getContent(), loaded.getTotalElements());
+                },
+                value -> entrySize(PAGE_CACHE).record(value.getItems().size()));
+        return new PageImpl<>(cached.getItems(), pageable, cached.getTotal());
+    }
+
+    // Keyset feed slice IDs, keyed "cursor-size" ("head" for the first slice)
+    public CursorPageResponseDTO<Long> getSliceIds(String cursorKey, int size, Supplier<CursorPageResponseDTO<Long>> loader) {
+        return get(CURSOR_CACHE, cursorKey + "-" + size, loader,
+                value -> entrySize(CURSOR_CACHE).record(value.getItems().size()));
+    }
+
+    // Version of the guest bodies: the feed structure version (uploads/deletes, see ContentVersions) plus the
+    // current body TTL period. Keying by the feed version would re-serialize every page on every like; instead
+    // the counters baked into the bytes lag by at most one period (app.cache.feed-body.ttl, default 30s).
+    // Cheap to compute, so it doubles as the guest ETag and a 304 needs no body at all.
+    public String bodyVersion(long structureVersion) {
+        return Long.toHexString(structureVersion) + "." + Long.toHexString(System.currentTimeMillis() / bodyTtl.toMillis());
+    }
+
+    // Final JSON bytes of a guest feed page, keyed "page-size-bodyVersion"; old periods simply age out
+    public byte[] getPageBody(int page, int size, String bodyVersion, Supplier<byte[]> loader) {
+        return get(BODY_CACHE, page + "-" + size + "-" + bodyVersion, loader,
+                value -> entryBytes().record(value.length));
+    }
+
+    private <T> T get(String cacheName, String key, Supplier<T> loader, Consumer<T> onLoad) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            counter(cacheName, "miss").increment();
+            return load(cacheName, loader, onLoad);
+        }
+
+        // get(key, Callable) keeps per-key load synchronization; the flag tells us whether the loader ran
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        T value = cache.get(key, () -> {
+            loaded.set(true);
+            return load(cacheName, loader, onLoad);
+        });
+        counter(cacheName, loaded.get() ? "miss" : "hit").increment();
+        return value;
+    }
+
+    private <T> T load(String cacheName, Supplier<T> loader, Consumer<T> onLoad) {
+        T value = Timer.builder("content.feed.cache.load")
+                .description("Time spent building a feed cache entry from the database")
+                .tag("cache", cacheName)
+                .register(meterRegistry)
+                .record(loader);
+        if (value != null) {
+            onLoad.accept(value);
+        }
+        return value;
+    }
+
+    private DistributionSummary entrySize(String cacheName) {
+        return DistributionSummary.builder("content.feed.cache.entry.size")
+                .description("Number of feed items stored per cache entry")
+                .baseUnit("items")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary entryBytes() {
+        return DistributionSummary.builder("content.feed.cache.entry.bytes")
+                .description("Size of pre-serialized feed bodies")
+                .baseUnit("bytes")
+                .tag("cache", BODY_CACHE)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String cacheName, String result) {
+        return Counter.builder("content.feed.cache.requests")
+                .description("Feed cache lookups by result")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
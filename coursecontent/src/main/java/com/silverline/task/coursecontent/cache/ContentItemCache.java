@@ -0,0 +1,118 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-item feed fragments (the DTO without per-viewer fields), shared by every feed window,
+ * page size, trending and search page that shows the item.
+ * Feed caches only hold ordered IDs; the items are resolved here with ONE Redis MGET (after L1) plus ONE query
+ * for the misses.
+ * <p>
+ * Metrics: content.item.cache.requests{result=hit|miss} (counted per item).
+ */
+@Component
+public class ContentItemCache {
+
+    public static final String CACHE_NAME = "contentItems";
+
+    private final CacheManager cacheManager;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ContentItemCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    // Items in the order of contentIds; ids the loader no longer finds (deleted) are skipped
+    public List<CourseContentResponseDTO> getItems(List<Long> contentIds,
+                                                   Function<List<Long>, List<CourseContentResponseDTO>> loader) {
+        if (contentIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CourseContentResponseDTO> found = lookup(contentIds);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : contentIds) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            List<CourseContentResponseDTO> loaded = loader.apply(missing);
+            loaded.forEach(item -> found.put(item.getId(), item));
+            putAll(loaded);
+        }
+
+        List<CourseContentResponseDTO> ordered = new ArrayList<>(contentIds.size());
+        for (Long id : contentIds) {
+            CourseContentResponseDTO item = found.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+
+    // Two-level cache: L1 plus ONE Redis MGET for the rest; other caches (tests, no-op) are read id by id
+    private Map<Long, CourseContentResponseDTO> lookup(List<Long> contentIds) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        Map<Long, CourseContentResponseDTO> found = new HashMap<>();
+        if (cache instanceof TwoLevelCache twoLevel) {
+            twoLevel.getAll(contentIds).forEach((id, item) -> {
+                if (item instanceof CourseContentResponseDTO dto) {
+                    found.put((Long) id, dto);
+                }
+            });
+        } else if (cache != null) {
+            for (Long id : contentIds) {
+                CourseContentResponseDTO cached = cache.get(id, CourseContentResponseDTO.class);
+                if (cached != null) {
+                    found.put(id, cached);
+                }
+            }
+        }
+        return found;
+    }
+
+    // Feed loaders already hold the full rows, so they seed the fragments instead of letting the next read miss
+    public void putAll(Collection<CourseContentResponseDTO> items) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            items.forEach(item -> cache.put(item.getId(), item));
+        }
+    }
+
+    public void evict(Long contentId) {
+        AfterCommit.run(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.evict(contentId);
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("content.item.cache.requests")
+                .description("Feed item fragment lookups by result")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
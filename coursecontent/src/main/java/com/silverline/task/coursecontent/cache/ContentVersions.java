@@ -0,0 +1,82 @@
+package com.silverline.task.coursecontent.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cheap change markers used to build ETags without touching the database.
+ * A version is an opaque random number replaced whenever the underlying data changes.
+ * Stored in the shared cache (Redis) so every node hands out the same ETag; falls back to
+ * an in-process map when caching is disabled. If an entry expires a fresh version is minted,
+ * which only costs clients one full refetch.
+ */
+@Component
+public class ContentVersions {
+
+    public static final String CACHE_NAME = "contentVersions";
+
+    private static final String FEED_KEY = "feed";
+    private static final String FEED_STRUCTURE_KEY = "feed-structure";
+
+    private final Cache versions;
+
+    public ContentVersions(CacheManager cacheManager) {
+        Cache shared = cacheManager.getCache(CACHE_NAME);
+        this.versions = (shared == null || shared instanceof NoOpCache) ? new ConcurrentMapCache(CACHE_NAME) : shared;
+    }
+
+    // Anything shown in the feed: membership, counters, like state
+    public long feedVersion() {
+        return current(FEED_KEY);
+    }
+
+    // Only which items the feed holds (uploads/deletes); likes and comments don't move it
+    public long feedStructureVersion() {
+        return current(FEED_STRUCTURE_KEY);
+    }
+
+    public long commentsVersion(Long contentId) {
+        return current("comments:" + contentId);
+    }
+
+    public long summaryVersion(Long contentId) {
+        return current("summary:" + contentId);
+    }
+
+    public void feedChanged() {
+        bump(FEED_KEY);
+    }
+
+    // An item was added or removed; counters alone only call feedChanged
+    public void feedStructureChanged() {
+        bump(FEED_STRUCTURE_KEY);
+        bump(FEED_KEY);
+    }
+
+    public void commentsChanged(Long contentId) {
+        bump("comments:" + contentId);
+    }
+
+    public void summaryChanged(Long contentId) {
+        bump("summary:" + contentId);
+    }
+
+    private long current(String key) {
+        Long version = versions.get(key, ContentVersions::newVersion);
+        return version != null ? version : 0L;
+    }
+
+    // After commit: a request racing the write must not pair the NEW version with OLD data
+    private void bump(String key) {
+        AfterCommit.run(() -> versions.put(key, newVersion()));
+    }
+
+    private static Long newVersion() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+}
@@ -0,0 +1,131 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.service.CourseContentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pre-populates the hottest feed entries so a deploy or an upload/delete doesn't send the first wave of
+ * visitors to the database together: the first N offset pages (items + guest JSON), the head keyset slice
+ * and the first trending page.
+ * <p>
+ * Startup: runs once the app would otherwise report ready (after every ApplicationReadyEvent job, e.g. the
+ * in-memory index seeding). As a health indicator in the readiness group it reports OUT_OF_SERVICE until that
+ * run finishes, so the node only joins the load balancer warm.
+ * Structural changes: re-warms in the background, debounced so an upload burst triggers one run.
+ * Does nothing (and reports UP) without a real cache, e.g. CACHE_TYPE=none: there is nothing to fill.
+ * Metrics: content.feed.cache.warmup{trigger=startup|invalidation} (timer).
+ */
+@Component
+public class FeedCacheWarmer implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedCacheWarmer.class);
+
+    private final CourseContentService courseContentService;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int pages;
+    private final int pageSize;
+    private final Duration debounce;
+
+    private final AtomicBoolean startupStarted = new AtomicBoolean(false);
+    private volatile boolean startupDone;
+    private final AtomicBoolean rewarmPending = new AtomicBoolean(false);
+
+    public FeedCacheWarmer(CourseContentService courseContentService,
+                           CacheManager cacheManager,
+                           TaskScheduler taskScheduler,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.cache.warmup.enabled:true}") boolean enabled,
+                           @Value("${app.cache.warmup.pages:3}") int pages,
+                           @Value("${app.cache.warmup.page-size:10}") int pageSize,
+                           @Value("${app.cache.warmup.debounce:PT2S}") Duration debounce) {
+        this.courseContentService = courseContentService;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled && !(cacheManager instanceof NoOpCacheManager);
+        this.pages = pages;
+        this.pageSize = pageSize;
+        this.debounce = debounce;
+    }
+
+    // Spring Boot flips readiness to ACCEPTING_TRAFFIC only after all ApplicationReadyEvent listeners ran,
+    // so hooking that transition is the one point where every startup job is guaranteed done.
+    // Readiness itself is held back by health() below, not by republishing availability events.
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (!enabled || event.getState() != ReadinessState.ACCEPTING_TRAFFIC || !startupStarted.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            warm("startup");
+        } finally {
+            startupDone = true;
+        }
+    }
+
+    // Member of the readiness health group (management.endpoint.health.group.readiness.include)
+    @Override
+    public Health health() {
+        if (!enabled || startupDone) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("reason", "feed cache warm-up pending").build();
+    }
+
+    // Uploads/deletes wipe the feed windows (likes/comments don't), so only those trigger a re-warm
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!enabled || (event.getType() != ContentChangedEvent.Type.CREATED && event.getType() != ContentChangedEvent.Type.DELETED)) {
+            return;
+        }
+        // Runs after the debounce so the feed @CacheEvict has landed; further changes meanwhile join this run
+        if (rewarmPending.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                rewarmPending.set(false);
+                warm("invalidation");
+            }, Instant.now().plus(debounce));
+        }
+    }
+
+    void warm(String trigger) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            String guestVersion = courseContentService.getGuestFeedVersion();
+            for (int page = 0; page < pages; page++) {
+                courseContentService.getAllContent(page, pageSize, null);
+                courseContentService.getAllContentJson(page, pageSize, guestVersion);
+            }
+            courseContentService.getFeed(null, pageSize, null);
+            courseContentService.getTrending(0, pageSize, null);
+            log.info("Feed cache warmed ({}): {} pages of {}", trigger, pages, pageSize);
+        } catch (RuntimeException e) {
+            // A cold cache is slower, not broken - never keep the node out of rotation over it
+            log.warn("Feed cache warm-up ({}) failed: {}", trigger, e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("content.feed.cache.warmup")
+                    .description("Time spent pre-populating feed caches")
+                    .tag("trigger", trigger)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.silverline.task.coursecontent.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Near-cache in front of a shared (Redis) cache.
+ * Reads hit the bounded in-process L1 first and only fall through to L2 on a miss.
+ * Writes and evictions go to both tiers and are broadcast so other nodes drop their L1 copy.
+ * <p>
+ * L1 hands out the same instances to every caller, so cached values must be treated as read-only.
+ * {@link #getAll} resolves many keys with ONE round trip to Redis (MGET) for whatever L1 doesn't hold.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationPublisher publisher;
+    private final BulkReader bulkReader;
+
+    // Raw MGET against Redis: one value (or null) per key, in key order
+    @FunctionalInterface
+    public interface BulkReader {
+        List<byte[]> multiGet(List<byte[]> keys);
+    }
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Cache l2,
+                         CacheInvalidationPublisher publisher) {
+        this(name, l1, l2, publisher, null);
+    }
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Cache l2,
+                         CacheInvalidationPublisher publisher,
+                         BulkReader bulkReader) {
+        super(true);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.publisher = publisher;
+        this.bulkReader = bulkReader;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getLocalCache() {
+        return l1;
+    }
+
+    public Cache getSharedCache() {
+        return l2;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object local = l1.getIfPresent(localKey);
+        if (local != null) {
+            return local;
+        }
+
+        ValueWrapper shared = l2.get(key);
+        if (shared == null) {
+            return null;
+        }
+        Object storeValue = toStoreValue(shared.get());
+        l1.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object local = l1.getIfPresent(localKey(key));
+        if (local != null) {
+            return (T) fromStoreValue(local);
+        }
+
+        T value = l2.get(key, valueLoader);
+        l1.put(localKey(key), toStoreValue(value));
+        return value;
+    }
+
+    // Cached values for the given keys (keys without one are absent): L1 first, then one MGET for the rest,
+    // decoded with the cache's own value serializer (CacheValueCodec) and copied into L1
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        List<Object> misses = new ArrayList<>();
+        for (Object key : keys) {
+            Object local = l1.getIfPresent(localKey(key));
+            if (local == null) {
+                misses.add(key);
+            } else if (fromStoreValue(local) != null) {
+                found.put(key, fromStoreValue(local));
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        List<Object> shared = readShared(misses);
+        for (int i = 0; i < misses.size(); i++) {
+            Object value = shared.get(i);
+            if (value != null) {
+                l1.put(localKey(misses.get(i)), toStoreValue(value));
+                found.put(misses.get(i), value);
+            }
+        }
+        return found;
+    }
+
+    // Other nodes may hold the previous value in their L1, so a write is broadcast like an evict
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(localKey(key), toStoreValue(value));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    // Called when ANOTHER node changed this cache - only our L1 copy is stale, L2 is already up to date
+    void evictLocal(String localKey) {
+        l1.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        l1.invalidateAll();
+    }
+
+    // One value (or null) per key. Falls back to key-by-key reads when L2 is not Redis.
+    private List<Object> readShared(List<Object> keys) {
+        List<Object> values = new ArrayList<>(keys.size());
+        if (bulkReader == null || !(l2 instanceof RedisCache redisCache)) {
+            for (Object key : keys) {
+                ValueWrapper wrapper = l2.get(key);
+                values.add(wrapper != null ? wrapper.get() : null);
+            }
+            return values;
+        }
+
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        List<byte[]> rawKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            // Same key layout RedisCache writes: "<prefix><key>", prefix "<cacheName>::" by default
+            String redisKey = config.usePrefix() ? config.getKeyPrefixFor(name) + localKey(key) : localKey(key);
+            rawKeys.add(ByteUtils.getBytes(config.getKeySerializationPair().write(redisKey)));
+        }
+        List<byte[]> raw = bulkReader.multiGet(rawKeys);
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] bytes = (raw != null) ? raw.get(i) : null;
+            Object value = (bytes != null) ? config.getValueSerializationPair().read(ByteBuffer.wrap(bytes)) : null;
+            values.add(value instanceof NullValue ? null : value);
+        }
+        return values;
+    }
+
+    // L1 keys are strings so keys received over pub/sub match the ones used locally
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,116 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the shared (Redis) cache manager in a {@link TwoLevelCache}.
+ * Invalidations are exchanged between nodes over a Redis pub/sub channel:
+ * message format is {@code nodeId|op|cacheName|key} where op is E (evict) or C (clear).
+ */
+public class TwoLevelCacheManager implements CacheManager, CacheInvalidationPublisher, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private static final String SEPARATOR = "|";
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    private final CacheManager sharedCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final long l1MaxSize;
+    private final Duration l1Ttl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager sharedCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                String channel,
+                                long l1MaxSize,
+                                Duration l1Ttl) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return sharedCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache shared = sharedCacheManager.getCache(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl) // bounds staleness even if an invalidation message is lost
+                .recordStats()
+                .build();
+        return new TwoLevelCache(name, local, shared, this, this::multiGet);
+    }
+
+    // One MGET round trip for TwoLevelCache.getAll
+    private List<byte[]> multiGet(List<byte[]> keys) {
+        return redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(keys.toArray(new byte[0][])));
+    }
+
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        publish(OP_EVICT, cacheName, key);
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(OP_CLEAR, cacheName, "");
+    }
+
+    private void publish(String op, String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, String.join(SEPARATOR, nodeId, op, cacheName, key));
+        } catch (Exception e) {
+            // L1 TTL still bounds staleness on the other nodes
+            log.warn("Failed to publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return; // malformed, or our own message (already applied locally)
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return; // never used on this node, nothing cached locally
+        }
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
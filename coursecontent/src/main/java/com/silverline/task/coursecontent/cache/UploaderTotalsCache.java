@@ -0,0 +1,46 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.projection.UploaderTotals;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-uploader dashboard totals (uploads, likes, comments), keyed by email.
+ * Evicted when that user uploads/deletes or when someone likes/comments on their content.
+ */
+@Component
+public class UploaderTotalsCache {
+
+    public static final String CACHE_NAME = "uploaderTotals";
+
+    private final CourseContentRepository repository;
+    private final CacheManager cacheManager;
+
+    public UploaderTotalsCache(CourseContentRepository repository, CacheManager cacheManager) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+    }
+
+    public UploaderTotals get(String email) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return repository.findUploaderTotals(email);
+        }
+        return cache.get(email, () -> repository.findUploaderTotals(email));
+    }
+
+    // After commit, same reasoning as ContentCounterCache.evict
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.evict(email);
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.silverline.task.coursecontent.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Viewer email -> user ID, so checking that a signed-in viewer exists costs no users query on every feed request.
+ * Emails never change and users are never deleted, so entries need no invalidation.
+ */
+@Component
+public class UserIdCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> ids;
+
+    public UserIdCache(UserRepository userRepository,
+                       @Value("${app.cache.user-ids.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.ids = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    // Unknown emails are not cached (null is never stored), so a user who signs up later is found
+    public Optional<Long> find(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ids.get(email, e -> userRepository.findIdByEmail(e).orElse(null)));
+    }
+}
@@ -0,0 +1,157 @@
+package com.silverline.task.coursecontent.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.silverline.task.coursecontent.cache.CacheValueCodec;
+import com.silverline.task.coursecontent.cache.CachedPage;
+import com.silverline.task.coursecontent.cache.CommentPageCache;
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentFeedCache;
+import com.silverline.task.coursecontent.cache.ContentItemCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.TwoLevelCache;
+import com.silverline.task.coursecontent.cache.TwoLevelCacheManager;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.repository.projection.ContentCounters;
+import com.silverline.task.coursecontent.repository.projection.UploaderTotals;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Two-tier caching when Redis is enabled (spring.cache.type=redis):
+ * a bounded in-process Caffeine L1 per node in front of the shared Redis L2,
+ * with L1 invalidations broadcast over Redis pub/sub.
+ * Known caches store their values with {@link CacheValueCodec} (versioned Smile + deflate) instead of JDK serialization.
+ * With CACHE_TYPE=none this config is skipped and Spring Boot's no-op cache manager is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Value("${app.cache.l1.max-size:1000}")
+    private long l1MaxSize;
+
+    @Value("${app.cache.l1.ttl:30s}")
+    private Duration l1Ttl;
+
+    @Value("${app.cache.feed-body.ttl:PT30S}")
+    private Duration feedBodyTtl;
+
+    @Value("${app.cache.invalidation-channel:cache-invalidation}")
+    private String invalidationChannel;
+
+    @Value("${app.cache.codec.compression:true}")
+    private boolean codecCompression;
+
+    @Value("${app.cache.codec.compress-min-bytes:512}")
+    private int codecCompressMinBytes;
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate redisTemplate,
+                                             CacheProperties cacheProperties,
+                                             MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(redisCacheManager(connectionFactory, cacheProperties, meterRegistry),
+                redisTemplate, invalidationChannel, l1MaxSize, l1Ttl);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    // Exposes both tiers to /actuator/prometheus: L2 as cache="<name>", L1 as cache="<name>.l1"
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> registry -> {
+            if (cache.getSharedCache() instanceof RedisCache redisCache) {
+                new RedisCacheMetrics(redisCache, tags).bindTo(registry);
+            }
+            CaffeineCacheMetrics.monitor(registry, cache.getLocalCache(), cache.getName() + ".l1", tags);
+        };
+    }
+
+    // Same settings Spring Boot would apply to its own RedisCacheManager (TTL, cache names, statistics),
+    // plus a typed binary codec for every cache whose value type we know
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties,
+                                                MeterRegistry meterRegistry) {
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig();
+        if (redisProperties.getTimeToLive() != null) {
+            defaults = defaults.entryTtl(redisProperties.getTimeToLive());
+        }
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()));
+        ObjectMapper binaryMapper = binaryMapper();
+        for (Map.Entry<String, JavaType> entry : cacheValueTypes(binaryMapper.getTypeFactory()).entrySet()) {
+            CacheValueCodec codec = new CacheValueCodec(entry.getKey(), binaryMapper, entry.getValue(),
+                    codecCompression, codecCompressMinBytes, meterRegistry);
+            RedisCacheConfiguration config =
+                    defaults.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(codec));
+            if (ContentFeedCache.BODY_CACHE.equals(entry.getKey())) {
+                config = config.entryTtl(feedBodyTtl); // bodies are keyed per TTL period, older ones are never read again
+            }
+            builder.withCacheConfiguration(entry.getKey(), config);
+        }
+        if (redisProperties.isEnableStatistics()) {
+            builder.enableStatistics();
+        }
+        RedisCacheManager manager = builder.build();
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    // Value type stored in each cache; caches not listed here keep the JDK serializer
+    private static Map<String, JavaType> cacheValueTypes(TypeFactory types) {
+        return Map.of(
+                ContentFeedCache.PAGE_CACHE, types.constructParametricType(CachedPage.class, Long.class),
+                ContentFeedCache.CURSOR_CACHE, types.constructParametricType(CursorPageResponseDTO.class, Long.class),
+                ContentItemCache.CACHE_NAME, types.constructType(CourseContentResponseDTO.class),
+                CommentPageCache.CACHE_NAME, types.constructCollectionType(List.class, CommentResponseDTO.class),
+                ContentFeedCache.BODY_CACHE, types.constructType(byte[].class),
+                ContentCounterCache.CACHE_NAME, types.constructType(ContentCounters.class),
+                ContentVersions.CACHE_NAME, types.constructType(Long.class),
+                UploaderTotalsCache.CACHE_NAME, types.constructType(UploaderTotals.class));
+    }
+
+    // Smile is Jackson's binary JSON: same annotations/modules, no field names repeated as text
+    private static ObjectMapper binaryMapper() {
+        return new ObjectMapper(new SmileFactory())
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
@@ -1,18 +1,31 @@
 package com.silverline.task.coursecontent.controller;
 
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.controller.dto.response.BrowseResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FeedChangesResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.MyContentsSummaryDTO;
+import com.silverline.task.coursecontent.controller.dto.response.SuggestionResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.SummaryResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.UploadResponseDTO;
+import com.silverline.task.coursecontent.service.ContentExportService;
 import com.silverline.task.coursecontent.service.CourseContentService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -23,15 +36,130 @@ import java.util.Map;
 public class CourseContentController {
 
     private final CourseContentService courseContentService;
+    private final ContentExportService contentExportService;
+    private final ContentVersions contentVersions;
 
+    // Conditional GET: an unchanged feed answers 304 before any cache, DB or JSON work
     @GetMapping
     public ResponseEntity<Page<CourseContentResponseDTO>> getAllContent(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            Principal principal,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+
+        String email = (principal != null) ? principal.getName() : null;
+        if (email == null) {
+            // Guests (most traffic): cached JSON bytes straight to the output stream, no serialization.
+            // The ETag is the version the body is cached under, so the bytes are only fetched for a 200
+            String version = courseContentService.getGuestFeedVersion();
+            String guestEtag = ETags.of("feed", version, page, size, ETags.viewer(null));
+            if (webRequest.checkNotModified(guestEtag)) {
+                return null; // 304 Not Modified
+            }
+            byte[] body = courseContentService.getAllContentJson(page, size, version);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length);
+            response.setHeader(HttpHeaders.ETAG, guestEtag);
+            response.getOutputStream().write(body);
+            return null; // response already written
+        }
+        String etag = ETags.of("feed", Long.toHexString(contentVersions.feedVersion()), page, size, ETags.viewer(email));
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok().eTag(etag).body(courseContentService.getAllContent(page, size, email));
+    }
+
+    // Cursor-based feed: stable under concurrent uploads, no deep OFFSET scans, no count query
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponseDTO<CourseContentResponseDTO>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Principal principal,
+            WebRequest webRequest) {
+
+        String email = (principal != null) ? principal.getName() : null;
+        String etag = ETags.of("cfeed", Long.toHexString(contentVersions.feedVersion()),
+                cursor == null ? "head" : cursor, size, ETags.viewer(email));
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok().eTag(etag).body(courseContentService.getFeed(cursor, size, email));
+    }
+
+    // Delta sync for polling clients. Get a baseline version first (no 'since' => resetRequired + current
+    // version), then load the feed, then poll with ?since=<version> and apply only what changed.
+    @GetMapping("/changes")
+    public ResponseEntity<FeedChangesResponseDTO> getFeedChanges(
+            @RequestParam(required = false) Long since,
+            Principal principal) {
+
+        String email = (principal != null) ? principal.getName() : null;
+        return ResponseEntity.ok(courseContentService.getFeedChanges(since, email));
+    }
+
+    // Trending: likes + comments with exponential time decay. Decay never reorders items,
+    // so the ranking only changes with feed changes and the feed version works as ETag.
+    @GetMapping("/trending")
+    public ResponseEntity<Page<CourseContentResponseDTO>> getTrending(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            Principal principal,
+            WebRequest webRequest) {
+
+        String email = (principal != null) ? principal.getName() : null;
+        String etag = ETags.of("trending", Long.toHexString(contentVersions.feedVersion()), page, size, ETags.viewer(email));
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok().eTag(etag).body(courseContentService.getTrending(page, size, email));
+    }
+
+    // Filtered listing for the browse sidebar: any mix of type, uploader and upload date window (ISO dates,
+    // 'to' inclusive), keyset-paginated like /feed, with per-type and per-uploader counts
+    @GetMapping("/browse")
+    public ResponseEntity<BrowseResponseDTO> browseContent(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long uploaderId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Principal principal) {
+
+        String email = (principal != null) ? principal.getName() : null;
+        return ResponseEntity.ok(courseContentService.browseContent(type, uploaderId, from, to, cursor, size, email));
+    }
+
+    // Server-side full-text search (in-memory inverted index), ranked + paginated
+    @GetMapping("/search")
+    public ResponseEntity<Page<CourseContentResponseDTO>> searchContent(
+            @RequestParam("q") String query,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             Principal principal) {
 
         String email = (principal != null) ? principal.getName() : null;
-        return ResponseEntity.ok(courseContentService.getAllContent(page, size, email));
+        return ResponseEntity.ok(courseContentService.searchContent(query, page, size, email));
+    }
+
+    // Typeahead for the search box (called on every debounced keystroke)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponseDTO>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(courseContentService.suggest(prefix, limit));
+    }
+
+    // Bulk export for analytics: whole catalogue as NDJSON, streamed row by row (constant memory)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContent() {
+        StreamingResponseBody body = contentExportService::exportNdjson;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"course-contents.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     // ✅ FIXED: Return 'UploadResponseDTO' instead of '?'
@@ -49,18 +177,33 @@ public class CourseContentController {
         return ResponseEntity.ok(courseContentService.addLink(payload.get("url"), payload.get("description"), principal.getName()));
     }
 
-    // ✅ FIXED: Return 'List<CourseContentResponseDTO>' instead of '?'
+    // Dashboard list, cursor-paginated (pass back nextCursor for the following slice)
     @GetMapping("/my-contents")
-    public ResponseEntity<List<CourseContentResponseDTO>> getMyContents(Principal principal) {
-        return ResponseEntity.ok(courseContentService.getMyContents(principal.getName()));
+    public ResponseEntity<CursorPageResponseDTO<CourseContentResponseDTO>> getMyContents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) {
+        return ResponseEntity.ok(courseContentService.getMyContents(principal.getName(), cursor, size));
+    }
+
+    // Dashboard header: totals across all of the user's uploads
+    @GetMapping("/my-contents/summary")
+    public ResponseEntity<MyContentsSummaryDTO> getMyContentsSummary(Principal principal) {
+        return ResponseEntity.ok(courseContentService.getMyContentsSummary(principal.getName()));
     }
 
     // ✅ FIXED: Return 'byte[]' for file downloads
     @GetMapping("/{id}/download")
-    public ResponseEntity<byte[]> downloadContent(@PathVariable Long id) {
+    public ResponseEntity<byte[]> downloadContent(@PathVariable Long id, WebRequest webRequest) {
+        // Uploaded files are immutable (a new upload gets a new id), so the id alone is a strong ETag
+        String etag = ETags.of("file", id);
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified - skips the S3 download entirely
+        }
         var content = courseContentService.getContent(id);
         byte[] data = courseContentService.getFileData(id);
         return ResponseEntity.ok()
+                .eTag(etag)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + content.getFileName() + "\"")
                 .contentType(MediaType.parseMediaType(content.getFileType()))
                 .body(data);
@@ -75,12 +218,17 @@ public class CourseContentController {
 
     // ✅ FIXED: Return 'Map<String, Object>' for flexible JSON responses
     @GetMapping("/{id}/summary")
-    public ResponseEntity<Map<String, Object>> getSummary(@PathVariable Long id) {
-        var content = courseContentService.getById(id);
-        if (content.getSummary() != null) {
-            return ResponseEntity.ok(Map.of("summary", content.getSummary(), "keyPoints", content.getKeyPoints()));
+    public ResponseEntity<Map<String, Object>> getSummary(@PathVariable Long id, WebRequest webRequest) {
+        String etag = ETags.of("summary", id, Long.toHexString(contentVersions.summaryVersion(id)));
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        SummaryResponseDTO summary = courseContentService.getSummary(id); // detail row only, not the content entity
+        if (summary != null) {
+            return ResponseEntity.ok().eTag(etag).body(Map.of("summary", summary.getSummary(),
+                    "keyPoints", summary.getKeyPoints() != null ? summary.getKeyPoints() : ""));
         }
-        return ResponseEntity.ok(Map.of("message", "No summary exists yet."));
+        return ResponseEntity.ok().eTag(etag).body(Map.of("message", "No summary exists yet."));
     }
 
     // ✅ FIXED: Return 'SummaryResponseDTO'
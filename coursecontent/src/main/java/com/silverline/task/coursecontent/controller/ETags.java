@@ -0,0 +1,33 @@
+package com.silverline.task.coursecontent.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+// Builds strong ETag values from cheap version markers (see ContentVersions)
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Object... parts) {
+        return Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    // Personalized responses (likedByCurrentUser) must not share an ETag across users. A 32-bit hashCode lets two
+    // users collide and receive each other's 304s, so the tag carries 128 bits of SHA-256 of the email instead
+    static String viewer(String email) {
+        if (email == null) {
+            return "guest";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(email.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // required on every JVM
+        }
+    }
+}
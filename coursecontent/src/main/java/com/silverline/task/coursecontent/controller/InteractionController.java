@@ -1,10 +1,17 @@
 package com.silverline.task.coursecontent.controller;
 
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.controller.dto.request.InteractionBatchRequest;
 import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO; // Changed to match your DTO naming convention
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.InteractionResultDTO;
+import com.silverline.task.coursecontent.controller.dto.response.LikerResponseDTO;
 import com.silverline.task.coursecontent.service.InteractionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -17,6 +24,7 @@ import java.util.Map;
 public class InteractionController {
 
     private final InteractionService interactionService;
+    private final ContentVersions contentVersions;
 
     // ✅ Toggle Like (Secure: Uses Principal)
     @PostMapping("/{contentId}/like")
@@ -25,6 +33,28 @@ public class InteractionController {
         return ResponseEntity.ok().build();
     }
 
+    // Explicit like / unlike: idempotent, safe for clients to retry
+    @PutMapping("/{contentId}/like")
+    public ResponseEntity<Void> like(@PathVariable Long contentId, Principal principal) {
+        interactionService.setLike(contentId, principal.getName(), true);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{contentId}/like")
+    public ResponseEntity<Void> unlike(@PathVariable Long contentId, Principal principal) {
+        interactionService.setLike(contentId, principal.getName(), false);
+        return ResponseEntity.ok().build();
+    }
+
+    // "Who liked this", served from the in-memory like index
+    @GetMapping("/{contentId}/likes")
+    public ResponseEntity<Page<LikerResponseDTO>> getLikers(
+            @PathVariable Long contentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(interactionService.getLikers(contentId, page, size));
+    }
+
     // ✅ Add Comment (Secure: Uses Principal)
     @PostMapping("/{contentId}/comment")
     public ResponseEntity<CommentResponseDTO> addComment(
@@ -36,9 +66,26 @@ public class InteractionController {
         return ResponseEntity.ok(interactionService.addComment(contentId, text, principal.getName()));
     }
 
-    // ✅ Get Comments
+    // Offline replay: many likes / comments in one request and one transaction, one result per operation
+    @PostMapping("/batch")
+    public ResponseEntity<List<InteractionResultDTO>> applyBatch(@RequestBody InteractionBatchRequest request,
+                                                                 Principal principal) {
+        return ResponseEntity.ok(interactionService.applyBatch(request.getOperations(), principal.getName()));
+    }
+
+    // ✅ Get Comments (newest first, cursor-paginated)
     @GetMapping("/{contentId}/comments")
-    public ResponseEntity<List<CommentResponseDTO>> getComments(@PathVariable Long contentId) {
-        return ResponseEntity.ok(interactionService.getComments(contentId));
+    public ResponseEntity<CursorPageResponseDTO<CommentResponseDTO>> getComments(
+            @PathVariable Long contentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        String etag = ETags.of("comments", contentId, Long.toHexString(contentVersions.commentsVersion(contentId)),
+                cursor == null ? "head" : cursor, size);
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok().eTag(etag).body(interactionService.getComments(contentId, cursor, size));
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.silverline.task.coursecontent.controller.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+// Operations are applied in list order, so replaying an offline queue keeps its meaning (like, then unlike...)
+public class InteractionBatchRequest {
+    private List<InteractionOperation> operations;
+}
@@ -0,0 +1,18 @@
+package com.silverline.task.coursecontent.controller.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// One queued client action; 'text' is only used by COMMENT
+public class InteractionOperation {
+
+    public enum Type { LIKE, UNLIKE, TOGGLE_LIKE, COMMENT }
+
+    private Type type;
+    private Long contentId;
+    private String text;
+}
@@ -0,0 +1,20 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Filtered keyset slice plus facet counts for the filter sidebar
+public class BrowseResponseDTO {
+
+    private List<CourseContentResponseDTO> items;
+    private String nextCursor; // null when this is the last page
+    private boolean hasNext;
+    private List<FacetCountDTO> typeFacets;     // narrowed by the uploader filter
+    private List<FacetCountDTO> uploaderFacets; // narrowed by the type filter (top uploaders only)
+}
@@ -1,12 +1,17 @@
 package com.silverline.task.coursecontent.controller.dto.response;
 import lombok.Data;
+
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
-public class CommentResponseDTO {
+public class CommentResponseDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String text;
     private String username;
     private String userAvatar;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+}
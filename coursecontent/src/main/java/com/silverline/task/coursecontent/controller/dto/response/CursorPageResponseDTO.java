@@ -0,0 +1,21 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Keyset-paginated slice: no total count, just the items and an opaque cursor for the next slice
+public class CursorPageResponseDTO<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<T> items;
+    private String nextCursor; // null when this is the last page
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// One facet value: 'value' goes back as the filter parameter, 'label' is what the UI shows
+public class FacetCountDTO {
+
+    private String value;
+    private String label;
+    private long count;
+}
@@ -0,0 +1,20 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Delta-sync answer: apply upserts / deletions locally, then poll again with ?since=version
+public class FeedChangesResponseDTO {
+
+    private long version;
+    private boolean resetRequired; // the log no longer reaches back to 'since': reload the feed from scratch
+    private boolean hasMore;       // more changes are waiting - poll again right away
+    private List<CourseContentResponseDTO> upserts;
+    private List<Long> deletedIds;
+}
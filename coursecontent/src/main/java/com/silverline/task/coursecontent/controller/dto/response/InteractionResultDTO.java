@@ -0,0 +1,20 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Outcome of one batched operation, at the same position ('index') as in the request
+public class InteractionResultDTO {
+
+    public enum Status { APPLIED, UNCHANGED, FAILED }
+
+    private int index;
+    private Long contentId;
+    private Status status;
+    private String error;               // only for FAILED
+    private CommentResponseDTO comment; // only for an applied COMMENT
+}
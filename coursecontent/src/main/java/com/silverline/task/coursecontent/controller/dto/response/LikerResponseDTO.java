@@ -0,0 +1,16 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// One entry of a "who liked this" page
+public class LikerResponseDTO {
+
+    private Long userId;
+    private String name;
+    private String avatar;
+}
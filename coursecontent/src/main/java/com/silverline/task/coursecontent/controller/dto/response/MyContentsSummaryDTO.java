@@ -0,0 +1,16 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Header of the "my contents" dashboard
+public class MyContentsSummaryDTO {
+
+    private long totalUploads;
+    private long totalLikes;
+    private long totalComments;
+}
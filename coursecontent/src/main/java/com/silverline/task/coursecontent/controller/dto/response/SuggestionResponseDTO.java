@@ -0,0 +1,16 @@
+package com.silverline.task.coursecontent.controller.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// One typeahead entry: what to show, where it came from (TITLE / KEYWORD / UPLOADER) and its popularity
+public class SuggestionResponseDTO {
+
+    private String text;
+    private String type;
+    private long score;
+}
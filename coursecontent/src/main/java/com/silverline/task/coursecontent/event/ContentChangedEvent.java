@@ -0,0 +1,30 @@
+package com.silverline.task.coursecontent.event;
+
+import lombok.Getter;
+
+/**
+ * Published by the content/interaction services whenever a course content item changes.
+ * In-memory read models (search index, etc.) listen to it to stay incrementally up to date.
+ */
+@Getter
+public class ContentChangedEvent {
+
+    public enum Type {
+        CREATED,
+        DELETED,
+        UPDATED,   // searchable text changed (e.g. AI summary generated)
+        LIKED,
+        UNLIKED,
+        COMMENTED
+    }
+
+    private final Long contentId;
+    private final Type type;
+    private final Long actorId; // user who triggered the change (may be null)
+
+    public ContentChangedEvent(Long contentId, Type type, Long actorId) {
+        this.contentId = contentId;
+        this.type = type;
+        this.actorId = actorId;
+    }
+}
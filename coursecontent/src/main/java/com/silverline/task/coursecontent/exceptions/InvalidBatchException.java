@@ -0,0 +1,7 @@
+package com.silverline.task.coursecontent.exceptions;
+
+public class InvalidBatchException extends RuntimeException {
+    public InvalidBatchException(String message) {
+        super(message);
+    }
+}
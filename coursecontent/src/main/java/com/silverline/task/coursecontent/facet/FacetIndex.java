@@ -0,0 +1,168 @@
+package com.silverline.task.coursecontent.facet;
+
+import com.silverline.task.coursecontent.repository.projection.ContentFacetRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory facet counts for the browse listing: a type x uploader count matrix plus its row/column totals.
+ * Uploads and deletes adjust single cells, so counts are never computed with GROUP BY per request.
+ * <p>
+ * Counts can be narrowed by the other dimension (type counts for one uploader, uploader counts for one type);
+ * the upload date window is not a facet dimension and does not narrow them.
+ * Rebuilds fill a new count set batch by batch; uploads/deletes that arrive meanwhile are replayed onto it.
+ */
+@Component
+public class FacetIndex {
+
+    public static final int MAX_UPLOADER_FACETS = 20;
+
+    public record FacetCount(String value, String label, long count) {
+    }
+
+    private record Entry(String type, Long uploaderId) {
+    }
+
+    // row == null means the item was removed
+    private record Change(Long contentId, ContentFacetRow row) {
+    }
+
+    private static final Long NO_UPLOADER = 0L;
+
+    private Counts counts = new Counts();
+    private Counts staged;        // being filled by a rebuild; only the rebuilding thread touches it
+    private List<Change> journal; // non-null while a rebuild is loading
+
+    // Starts a rebuild: the caller feeds the table with addToRebuild, then calls completeRebuild
+    public synchronized void beginRebuild() {
+        staged = new Counts();
+        journal = new ArrayList<>();
+    }
+
+    public void addToRebuild(Collection<ContentFacetRow> rows) {
+        rows.forEach(staged::add);
+    }
+
+    // Replays what changed while the rows were being read, then swaps
+    public synchronized void completeRebuild() {
+        for (Change change : journal) {
+            staged.remove(change.contentId());
+            if (change.row() != null) {
+                staged.add(change.row());
+            }
+        }
+        counts = staged;
+        staged = null;
+        journal = null;
+    }
+
+    public synchronized void abortRebuild() {
+        staged = null;
+        journal = null;
+    }
+
+    // Whole table in one go (small data sets, tests)
+    public synchronized void rebuild(Collection<ContentFacetRow> rows) {
+        beginRebuild();
+        addToRebuild(rows);
+        completeRebuild();
+    }
+
+    // Insert or move an item (re-indexing an unchanged item is a no-op on the counts)
+    public synchronized void index(ContentFacetRow row) {
+        if (journal != null) {
+            journal.add(new Change(row.getId(), row));
+        }
+        counts.remove(row.getId());
+        counts.add(row);
+    }
+
+    public synchronized void remove(Long contentId) {
+        if (journal != null) {
+            journal.add(new Change(contentId, null));
+        }
+        counts.remove(contentId);
+    }
+
+    // Type counts, optionally only for one uploader's items; most common first
+    public synchronized List<FacetCount> typeCounts(Long uploaderId) {
+        List<FacetCount> result = new ArrayList<>();
+        if (uploaderId == null) {
+            counts.typeTotals.forEach((type, count) -> result.add(new FacetCount(type, type, count)));
+        } else {
+            counts.cells.forEach((type, row) -> {
+                Long count = row.get(uploaderId);
+                if (count != null) {
+                    result.add(new FacetCount(type, type, count));
+                }
+            });
+        }
+        result.sort(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value));
+        return result;
+    }
+
+    // Top uploaders, optionally only counting items of one type
+    public synchronized List<FacetCount> uploaderCounts(String type) {
+        Map<Long, Long> byUploader = (type == null) ? counts.uploaderTotals : counts.cells.getOrDefault(type, Map.of());
+        Map<Long, String> labels = counts.uploaderLabels;
+        return byUploader.entrySet().stream()
+                .filter(e -> !NO_UPLOADER.equals(e.getKey()))
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_UPLOADER_FACETS)
+                .map(e -> new FacetCount(String.valueOf(e.getKey()), labels.get(e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    public synchronized int size() {
+        return counts.items.size();
+    }
+
+    // true when the key's count dropped to zero (and was removed)
+    private static <K> boolean decrement(Map<K, Long> counts, K key) {
+        Long left = counts.computeIfPresent(key, (k, n) -> n > 1 ? n - 1 : null);
+        return left == null;
+    }
+
+    // Not thread-safe on its own; FacetIndex guards the live instance with its monitor
+    private static final class Counts {
+        private final Map<Long, Entry> items = new HashMap<>();
+        private final Map<String, Map<Long, Long>> cells = new HashMap<>(); // type -> uploader -> count
+        private final Map<String, Long> typeTotals = new HashMap<>();
+        private final Map<Long, Long> uploaderTotals = new HashMap<>();
+        private final Map<Long, String> uploaderLabels = new HashMap<>();
+
+        private void add(ContentFacetRow row) {
+            String type = (row.getFileType() != null) ? row.getFileType() : "unknown";
+            Long uploaderId = (row.getUploaderId() != null) ? row.getUploaderId() : NO_UPLOADER;
+            items.put(row.getId(), new Entry(type, uploaderId));
+            cells.computeIfAbsent(type, t -> new HashMap<>()).merge(uploaderId, 1L, Long::sum);
+            typeTotals.merge(type, 1L, Long::sum);
+            uploaderTotals.merge(uploaderId, 1L, Long::sum);
+            if (row.getUploaderId() != null) {
+                uploaderLabels.put(uploaderId, row.getUploaderName() != null ? row.getUploaderName() : row.getUploaderEmail());
+            }
+        }
+
+        private void remove(Long contentId) {
+            Entry entry = items.remove(contentId);
+            if (entry == null) {
+                return;
+            }
+            Map<Long, Long> row = cells.get(entry.type());
+            decrement(row, entry.uploaderId());
+            if (row.isEmpty()) {
+                cells.remove(entry.type());
+            }
+            decrement(typeTotals, entry.type());
+            if (decrement(uploaderTotals, entry.uploaderId())) {
+                uploaderLabels.remove(entry.uploaderId());
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.silverline.task.coursecontent.facet;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentFacetRow;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps {@link FacetIndex} in sync: full load at startup and on the search rebuild interval
+ * (also picks up renamed uploaders), single-cell updates on upload/delete.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacetIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(FacetIndexer.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final FacetIndex index;
+    private final CourseContentRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval:PT15M}", initialDelayString = "${app.search.rebuild-interval:PT15M}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        index.beginRebuild();
+        try {
+            long afterId = 0;
+            List<ContentFacetRow> batch;
+            do {
+                batch = repository.findFacetRows(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                index.addToRebuild(batch);
+                count += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            index.completeRebuild();
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.warn("Facet index rebuild failed, keeping the previous counts: {}", e.getMessage());
+            return;
+        }
+        log.info("Facet index rebuilt: {} items in {} ms", count, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> repository.findFacetRow(event.getContentId()).ifPresent(index::index);
+            case DELETED -> index.remove(event.getContentId());
+            default -> {
+                // type and uploader never change after upload
+            }
+        }
+    }
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // Backs keyset comments per item: ORDER BY created_at DESC, id DESC with (created_at, id) < (?, ?)
+        @Index(name = "idx_comments_content_feed", columnList = "content_id, created_at, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
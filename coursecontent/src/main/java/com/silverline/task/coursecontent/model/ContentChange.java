@@ -0,0 +1,40 @@
+package com.silverline.task.coursecontent.model;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Append-only feed change log. The auto-increment id is the monotonically increasing "feed version"
+// that delta-sync clients poll with. No FK to course_contents: deletions must stay in the log.
+@Entity
+@Table(name = "content_changes", indexes = {
+        @Index(name = "idx_content_changes_changed_at", columnList = "changed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ContentChangedEvent.Type type;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt = LocalDateTime.now();
+
+    public ContentChange(Long contentId, ContentChangedEvent.Type type) {
+        this.contentId = contentId;
+        this.type = type;
+    }
+}
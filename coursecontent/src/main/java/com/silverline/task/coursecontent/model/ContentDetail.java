@@ -0,0 +1,32 @@
+package com.silverline.task.coursecontent.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// AI output for one content item (summary + key points). Loaded only by the summary endpoints,
+// so feed/download/delete queries on course_contents never carry these TEXT columns.
+@Entity
+@Table(name = "content_details")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentDetail {
+
+    @Id
+    @Column(name = "content_id")
+    private Long contentId;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "key_points", columnDefinition = "TEXT")
+    private String keyPoints;
+
+    public ContentDetail(Long contentId, String summary, String keyPoints) {
+        this.contentId = contentId;
+        this.summary = summary;
+        this.keyPoints = keyPoints;
+    }
+}
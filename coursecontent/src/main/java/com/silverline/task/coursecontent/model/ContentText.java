@@ -0,0 +1,27 @@
+package com.silverline.task.coursecontent.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Plain text extracted from an uploaded file (PDF / TXT). Kept out of course_contents so feed rows stay small.
+@Entity
+@Table(name = "content_texts")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentText {
+
+    @Id
+    @Column(name = "content_id")
+    private Long contentId;
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String text;
+
+    public ContentText(Long contentId, String text) {
+        this.contentId = contentId;
+        this.text = text;
+    }
+}
@@ -10,7 +10,16 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "course_contents")
+@Table(name = "course_contents", indexes = {
+        // Backs the keyset feed: ORDER BY upload_date DESC, id DESC with (upload_date, id) < (?, ?)
+        @Index(name = "idx_course_contents_feed", columnList = "upload_date, id"),
+        // Same keyset, scoped to one uploader ("my contents" dashboard)
+        @Index(name = "idx_course_contents_user_feed", columnList = "user_id, upload_date, id"),
+        // Browse filtered by file type (optionally + date window), same keyset order
+        @Index(name = "idx_course_contents_type_feed", columnList = "file_type, upload_date, id"),
+        // Browse filtered by type AND uploader
+        @Index(name = "idx_course_contents_user_type_feed", columnList = "user_id, file_type, upload_date, id")
+})
 @Getter
 @Setter
 public class CourseContent {
@@ -26,11 +35,15 @@ public class CourseContent {
     private LocalDateTime uploadDate;
     private String fileUrl;
 
-    @Column(columnDefinition = "TEXT")
-    private String summary;
+    // summary / keyPoints live in ContentDetail (content_details) - loaded on demand only
 
-    @Column(columnDefinition = "TEXT")
-    private String keyPoints;
+    // Denormalized counters so feeds never touch the join tables.
+    // Written ONLY by the atomic UPDATE statements in CourseContentRepository (never by entity saves)
+    @Column(name = "like_count", insertable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int likeCount;
+
+    @Column(name = "comment_count", insertable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int commentCount;
 
     @ManyToOne
     @JoinColumn(name = "user_id")
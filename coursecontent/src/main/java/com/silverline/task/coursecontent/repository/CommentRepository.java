@@ -1,11 +1,33 @@
 package com.silverline.task.coursecontent.repository;
 
 import com.silverline.task.coursecontent.model.Comment;
+import com.silverline.task.coursecontent.repository.projection.CommentRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // Finds all comments for a specific content ID and sorts them so newest is first
-    List<Comment> findByCourseContentIdOrderByCreatedAtDesc(Long contentId);
-}
\ No newline at end of file
+    // Comment + author columns in ONE query; the eager Comment.user association is never touched
+    String COMMENT_ROW_SELECT = "SELECT new com.silverline.task.coursecontent.repository.projection.CommentRow(" +
+            "c.id, c.text, c.createdAt, u.name, u.email, u.profilePicture) " +
+            "FROM Comment c LEFT JOIN c.user u ";
+
+    // Keyset comments: newest slice first (List return type => no count query)
+    @Query(COMMENT_ROW_SELECT + "WHERE c.courseContent.id = :contentId ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentRow> findCommentRowsHead(@Param("contentId") Long contentId, Pageable pageable);
+
+    // Keyset comments: slice strictly after the cursor position (createdAt, id)
+    @Query(COMMENT_ROW_SELECT +
+            "WHERE c.courseContent.id = :contentId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentRow> findCommentRowsAfter(@Param("contentId") Long contentId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.silverline.task.coursecontent.repository;
+
+import com.silverline.task.coursecontent.model.ContentChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ContentChangeRepository extends JpaRepository<ContentChange, Long> {
+
+    // Primary-key range scan: everything after the client's version
+    @Query("SELECT c FROM ContentChange c WHERE c.id > :since ORDER BY c.id")
+    List<ContentChange> findAfter(@Param("since") Long since, Pageable pageable);
+
+    @Query("SELECT MIN(c.id) FROM ContentChange c")
+    Long findOldestId();
+
+    @Query("SELECT MAX(c.id) FROM ContentChange c WHERE c.changedAt < :cutoff")
+    Long findLatestIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // Keeps the boundary row itself, so MIN(id) marks where the retained history starts
+    @Modifying
+    @Query("DELETE FROM ContentChange c WHERE c.id < :id")
+    int deleteOlderThan(@Param("id") Long id);
+}
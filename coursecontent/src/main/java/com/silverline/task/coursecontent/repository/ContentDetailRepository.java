@@ -0,0 +1,30 @@
+package com.silverline.task.coursecontent.repository;
+
+import com.silverline.task.coursecontent.model.ContentDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ContentDetailRepository extends JpaRepository<ContentDetail, Long> {
+
+    // Databases created before content_details existed still have summary/key_points on course_contents
+    @Query(value = "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = 'course_contents' AND column_name = 'summary'",
+            nativeQuery = true)
+    int countLegacySummaryColumns();
+
+    @Modifying
+    @Query(value = "INSERT INTO content_details (content_id, summary, key_points) " +
+            "SELECT c.id, c.summary, c.key_points FROM course_contents c " +
+            "LEFT JOIN content_details d ON d.content_id = c.id " +
+            "WHERE (c.summary IS NOT NULL OR c.key_points IS NOT NULL) AND d.content_id IS NULL",
+            nativeQuery = true)
+    int copyLegacySummaries();
+
+    // Frees the old TEXT values once they are copied (same transaction as the copy)
+    @Modifying
+    @Query(value = "UPDATE course_contents SET summary = NULL, key_points = NULL " +
+            "WHERE summary IS NOT NULL OR key_points IS NOT NULL",
+            nativeQuery = true)
+    int clearLegacySummaries();
+}
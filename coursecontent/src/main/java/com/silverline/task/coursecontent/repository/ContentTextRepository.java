@@ -0,0 +1,7 @@
+package com.silverline.task.coursecontent.repository;
+
+import com.silverline.task.coursecontent.model.ContentText;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ContentTextRepository extends JpaRepository<ContentText, Long> {
+}
@@ -1,10 +1,161 @@
 package com.silverline.task.coursecontent.repository;
 
 import com.silverline.task.coursecontent.model.CourseContent;
+import com.silverline.task.coursecontent.repository.projection.ContentCounters;
+import com.silverline.task.coursecontent.repository.projection.ContentFacetRow;
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import com.silverline.task.coursecontent.repository.projection.SearchDocumentRow;
+import com.silverline.task.coursecontent.repository.projection.UploaderTotals;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CourseContentRepository extends JpaRepository<CourseContent, Long> {
-    // ✅ Find all content uploaded by a specific user email
-    List<CourseContent> findAllByUserEmail(String email);
-}
\ No newline at end of file
+    // Feed read model: uploader + denormalized counters in ONE query, only the columns the DTO needs
+    String FEED_ROW_SELECT = "SELECT new com.silverline.task.coursecontent.repository.projection.ContentFeedRow(" +
+            "c.id, c.fileName, c.description, c.fileType, c.fileSize, c.uploadDate, c.fileUrl, " +
+            "u.name, u.email, u.profilePicture, c.likeCount, c.commentCount) " +
+            "FROM CourseContent c LEFT JOIN c.user u ";
+
+    // Offset feed (sort comes from the Pageable)
+    @Query(value = FEED_ROW_SELECT, countQuery = "SELECT COUNT(c) FROM CourseContent c")
+    Page<ContentFeedRow> findFeedRows(Pageable pageable);
+
+    // Keyset feed: first slice (List return type => no count query)
+    @Query(FEED_ROW_SELECT + "ORDER BY c.uploadDate DESC, c.id DESC")
+    List<ContentFeedRow> findFeedRowsHead(Pageable pageable);
+
+    // Keyset feed: slice strictly after the cursor position (uploadDate, id)
+    @Query(FEED_ROW_SELECT +
+            "WHERE c.uploadDate < :uploadDate OR (c.uploadDate = :uploadDate AND c.id < :id) " +
+            "ORDER BY c.uploadDate DESC, c.id DESC")
+    List<ContentFeedRow> findFeedRowsAfter(@Param("uploadDate") LocalDateTime uploadDate,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    // "My contents" dashboard: the same keyset slices, restricted to one uploader
+    @Query(FEED_ROW_SELECT + "WHERE u.email = :email ORDER BY c.uploadDate DESC, c.id DESC")
+    List<ContentFeedRow> findUserFeedRowsHead(@Param("email") String email, Pageable pageable);
+
+    @Query(FEED_ROW_SELECT +
+            "WHERE u.email = :email AND (c.uploadDate < :uploadDate OR (c.uploadDate = :uploadDate AND c.id < :id)) " +
+            "ORDER BY c.uploadDate DESC, c.id DESC")
+    List<ContentFeedRow> findUserFeedRowsAfter(@Param("email") String email,
+                                               @Param("uploadDate") LocalDateTime uploadDate,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // Dashboard header: totals straight from the denormalized counters, one aggregate row
+    @Query("SELECT new com.silverline.task.coursecontent.repository.projection.UploaderTotals(" +
+            "COUNT(c), COALESCE(SUM(c.likeCount), 0), COALESCE(SUM(c.commentCount), 0)) " +
+            "FROM CourseContent c WHERE c.user.email = :email")
+    UploaderTotals findUploaderTotals(@Param("email") String email);
+
+    // Feed rows for a known set of IDs (e.g. search hits); caller restores the ranking order
+    @Query(FEED_ROW_SELECT + "WHERE c.id IN :ids")
+    List<ContentFeedRow> findFeedRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Browse listing: keyset slices with optional filters. Connector/J prepares statements client-side, so MySQL
+    // sees literals and folds an unused filter ("NULL IS NULL OR ...") away before picking the composite index.
+    String BROWSE_FILTER = "(:type IS NULL OR c.fileType = :type) " +
+            "AND (:uploaderId IS NULL OR u.id = :uploaderId) " +
+            "AND (:from IS NULL OR c.uploadDate >= :from) " +
+            "AND (:to IS NULL OR c.uploadDate < :to) ";
+
+    @Query(FEED_ROW_SELECT + "WHERE " + BROWSE_FILTER + "ORDER BY c.uploadDate DESC, c.id DESC")
+    List<ContentFeedRow> findBrowseRowsHead(@Param("type") String type,
+                                            @Param("uploaderId") Long uploaderId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            Pageable pageable);
+
+    @Query(FEED_ROW_SELECT + "WHERE " + BROWSE_FILTER +
+            "AND (c.uploadDate < :uploadDate OR (c.uploadDate = :uploadDate AND c.id < :id)) " +
+            "ORDER BY c.uploadDate DESC, c.id DESC")
+    List<ContentFeedRow> findBrowseRowsAfter(@Param("type") String type,
+                                             @Param("uploaderId") Long uploaderId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("uploadDate") LocalDateTime uploadDate,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    // Facet index source: type + uploader per item
+    String FACET_ROW_SELECT = "SELECT new com.silverline.task.coursecontent.repository.projection.ContentFacetRow(" +
+            "c.id, c.fileType, u.id, u.name, u.email) FROM CourseContent c LEFT JOIN c.user u ";
+
+    @Query(FACET_ROW_SELECT + "WHERE c.id = :id")
+    Optional<ContentFacetRow> findFacetRow(@Param("id") Long id);
+
+    // Batched full load, keyset on id
+    @Query(FACET_ROW_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    List<ContentFacetRow> findFacetRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Search index source: every searchable field, extracted file text included
+    String SEARCH_DOCUMENT_SELECT = "SELECT new com.silverline.task.coursecontent.repository.projection.SearchDocumentRow(" +
+            "c.id, c.fileName, c.description, d.summary, d.keyPoints, t.text) " +
+            "FROM CourseContent c LEFT JOIN ContentDetail d ON d.contentId = c.id " +
+            "LEFT JOIN ContentText t ON t.contentId = c.id ";
+
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE c.id = :id")
+    Optional<SearchDocumentRow> findSearchDocument(@Param("id") Long id);
+
+    // Batched full load, keyset on id
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    List<SearchDocumentRow> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Which of the given content IDs has this user liked? One indexed lookup on content_likes for a whole page
+    @Query(value = "SELECT cl.content_id FROM content_likes cl JOIN users u ON u.id = cl.user_id " +
+            "WHERE u.email = :email AND cl.content_id IN (:contentIds)", nativeQuery = true)
+    List<Long> findLikedContentIds(@Param("email") String email, @Param("contentIds") Collection<Long> contentIds);
+
+    // Like / unlike as single statements on the join table: O(1) however many likes the item has.
+    // Both return the affected row count, so callers know whether anything actually changed.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO content_likes (content_id, user_id) VALUES (:contentId, :userId)", nativeQuery = true)
+    int insertLike(@Param("contentId") Long contentId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM content_likes WHERE content_id = :contentId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("contentId") Long contentId, @Param("userId") Long userId);
+
+    // Point lookup on the join table's primary key
+    @Query(value = "SELECT COUNT(*) > 0 FROM content_likes WHERE content_id = :contentId AND user_id = :userId", nativeQuery = true)
+    boolean isLikedBy(@Param("contentId") Long contentId, @Param("userId") Long userId);
+
+    // "Who liked this": user IDs only, straight from the join table
+    @Query(value = "SELECT user_id FROM content_likes WHERE content_id = :contentId ORDER BY user_id",
+            countQuery = "SELECT COUNT(*) FROM content_likes WHERE content_id = :contentId", nativeQuery = true)
+    Page<Long> findLikerIds(@Param("contentId") Long contentId, Pageable pageable);
+
+    // Fresh counters for a batch of items (feed overlay on top of cached page membership)
+    @Query("SELECT new com.silverline.task.coursecontent.repository.projection.ContentCounters(c.id, c.likeCount, c.commentCount) " +
+            "FROM CourseContent c WHERE c.id IN :ids")
+    List<ContentCounters> findCountersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Atomic counter updates (n = n + delta) - safe under concurrent likes/comments
+    @Modifying
+    @Query("UPDATE CourseContent c SET c.likeCount = c.likeCount + :delta WHERE c.id = :id")
+    int adjustLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE CourseContent c SET c.commentCount = c.commentCount + :delta WHERE c.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // Repairs counter drift from the source-of-truth tables. Only rows that actually drifted are written.
+    @Modifying
+    @Query(value = "UPDATE course_contents c " +
+            "LEFT JOIN (SELECT content_id, COUNT(*) AS n FROM content_likes GROUP BY content_id) l ON l.content_id = c.id " +
+            "LEFT JOIN (SELECT content_id, COUNT(*) AS n FROM comments GROUP BY content_id) m ON m.content_id = c.id " +
+            "SET c.like_count = COALESCE(l.n, 0), c.comment_count = COALESCE(m.n, 0) " +
+            "WHERE c.like_count <> COALESCE(l.n, 0) OR c.comment_count <> COALESCE(m.n, 0)", nativeQuery = true)
+    int reconcileCounters();
+}
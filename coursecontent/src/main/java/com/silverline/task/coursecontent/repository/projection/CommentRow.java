@@ -0,0 +1,19 @@
+package com.silverline.task.coursecontent.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+// One comment with its author's display fields, loaded in the same query (no per-comment user fetch)
+public class CommentRow {
+
+    private Long id;
+    private String text;
+    private LocalDateTime createdAt;
+    private String authorName;
+    private String authorEmail;
+    private String authorAvatar;
+}
@@ -0,0 +1,20 @@
+package com.silverline.task.coursecontent.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Per-item engagement counters, cached separately from feed pages so a like only invalidates one small entry
+public class ContentCounters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long contentId;
+    private int likeCount;
+    private int commentCount;
+}
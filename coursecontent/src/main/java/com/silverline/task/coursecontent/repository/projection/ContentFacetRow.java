@@ -0,0 +1,16 @@
+package com.silverline.task.coursecontent.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// The facet dimensions of one content item (file type, uploader)
+public class ContentFacetRow {
+
+    private Long id;
+    private String fileType;
+    private Long uploaderId;
+    private String uploaderName;
+    private String uploaderEmail;
+}
@@ -0,0 +1,25 @@
+package com.silverline.task.coursecontent.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+// Read model for feed queries: exactly the columns the feed DTO needs, uploader included, in one SQL round trip
+public class ContentFeedRow {
+
+    private Long id;
+    private String fileName;
+    private String description;
+    private String fileType;
+    private Long fileSize;
+    private LocalDateTime uploadDate;
+    private String fileUrl;
+    private String uploaderName;
+    private String uploaderEmail;
+    private String uploaderImage;
+    private int likeCount;
+    private int commentCount;
+}
@@ -0,0 +1,17 @@
+package com.silverline.task.coursecontent.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// Every searchable field of one content item
+public class SearchDocumentRow {
+
+    private Long id;
+    private String fileName;
+    private String description;
+    private String summary;
+    private String keyPoints;
+    private String text;
+}
@@ -0,0 +1,20 @@
+package com.silverline.task.coursecontent.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// One uploader's totals across all their content (dashboard header), cached per user
+public class UploaderTotals implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long uploads;
+    private Long likes;
+    private Long comments;
+}
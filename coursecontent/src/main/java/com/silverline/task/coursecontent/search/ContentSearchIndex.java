@@ -0,0 +1,240 @@
+package com.silverline.task.coursecontent.search;
+
+import com.silverline.task.coursecontent.repository.projection.SearchDocumentRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over course content (file name, description, summary, key points, extracted text).
+ * Ranking is BM25 over field-weighted term frequencies, so a hit in the title counts more than one deep in a PDF.
+ * Reads take a shared lock; single-document updates take the write lock briefly; full rebuilds
+ * are built off to the side batch by batch and swapped in. Changes that arrive while a rebuild is loading
+ * are journaled and replayed onto the new index before the swap.
+ */
+@Component
+public class ContentSearchIndex {
+
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field weights
+    private static final float FILE_NAME_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 2.0f;
+    private static final float SUMMARY_WEIGHT = 1.5f;
+    private static final float KEY_POINTS_WEIGHT = 1.5f;
+    private static final float TEXT_WEIGHT = 1.0f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Postings current = new Postings();
+    private Postings staged;     // being filled by a rebuild; only the rebuilding thread touches it
+    private List<Change> journal; // non-null while a rebuild is loading
+
+    private record IndexedDoc(float length, Collection<String> terms) {
+    }
+
+    public record SearchHits(long total, List<Long> contentIds) {
+    }
+
+    private record ScoredDoc(Long contentId, double score) {
+    }
+
+    // termFreqs == null means the document was removed
+    private record Change(Long contentId, Map<String, Float> termFreqs) {
+    }
+
+    // Adds or replaces one document
+    public void index(SearchDocumentRow row) {
+        Map<String, Float> termFreqs = analyze(row);
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(new Change(row.getId(), termFreqs));
+            }
+            current.put(row.getId(), termFreqs);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long contentId) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(new Change(contentId, null));
+            }
+            current.remove(contentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Starts a rebuild: the caller feeds the table with addToRebuild, then calls completeRebuild
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            staged = new Postings();
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Analyzed without blocking searches; the rows can be dropped as soon as this returns
+    public void addToRebuild(Collection<SearchDocumentRow> rows) {
+        for (SearchDocumentRow row : rows) {
+            staged.put(row.getId(), analyze(row));
+        }
+    }
+
+    public void completeRebuild() {
+        lock.writeLock().lock();
+        try {
+            for (Change change : journal) {
+                if (change.termFreqs() == null) {
+                    staged.remove(change.contentId());
+                } else {
+                    staged.put(change.contentId(), change.termFreqs());
+                }
+            }
+            current = staged;
+            staged = null;
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            staged = null;
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Whole table in one go (small data sets, tests)
+    public void rebuild(Collection<SearchDocumentRow> rows) {
+        beginRebuild();
+        addToRebuild(rows);
+        completeRebuild();
+    }
+
+    // Ranked, paginated search. Ties go to the newer item (higher id).
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return new SearchHits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Map<Long, Float>> postings = current.postings;
+            Map<Long, IndexedDoc> docs = current.docs;
+            int docCount = docs.size();
+            double avgLength = docCount == 0 ? 0 : current.totalLength / docCount;
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                    double tf = posting.getValue();
+                    double norm = 1 - B + B * (docs.get(posting.getKey()).length() / avgLength);
+                    scores.merge(posting.getKey(), idf * (tf * (K1 + 1)) / (tf + K1 * norm), Double::sum);
+                }
+            }
+
+            List<ScoredDoc> ranked = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> ranked.add(new ScoredDoc(id, score)));
+            ranked.sort(Comparator.comparingDouble(ScoredDoc::score).reversed()
+                    .thenComparing(ScoredDoc::contentId, Comparator.reverseOrder()));
+
+            List<Long> page = ranked.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(ScoredDoc::contentId)
+                    .toList();
+            return new SearchHits(ranked.size(), page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Float> analyze(SearchDocumentRow row) {
+        Map<String, Float> termFreqs = new HashMap<>();
+        addField(termFreqs, row.getFileName(), FILE_NAME_WEIGHT);
+        addField(termFreqs, row.getDescription(), DESCRIPTION_WEIGHT);
+        addField(termFreqs, row.getSummary(), SUMMARY_WEIGHT);
+        addField(termFreqs, row.getKeyPoints(), KEY_POINTS_WEIGHT);
+        addField(termFreqs, row.getText(), TEXT_WEIGHT);
+        return termFreqs;
+    }
+
+    private static void addField(Map<String, Float> termFreqs, String value, float weight) {
+        for (String term : SearchTokenizer.tokenize(value)) {
+            termFreqs.merge(term, weight, Float::sum);
+        }
+    }
+
+    // Not thread-safe on its own; ContentSearchIndex guards the live instance with the lock
+    private static final class Postings {
+        // term -> (contentId -> weighted term frequency)
+        private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        // contentId -> weighted document length + its terms (needed to remove it again)
+        private final Map<Long, IndexedDoc> docs = new HashMap<>();
+        private double totalLength;
+
+        // Adds or replaces one document
+        private void put(Long contentId, Map<String, Float> termFreqs) {
+            remove(contentId);
+            float length = 0;
+            for (Map.Entry<String, Float> entry : termFreqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(contentId, entry.getValue());
+                length += entry.getValue();
+            }
+            docs.put(contentId, new IndexedDoc(length, new ArrayList<>(termFreqs.keySet())));
+            totalLength += length;
+        }
+
+        private void remove(Long contentId) {
+            IndexedDoc existing = docs.remove(contentId);
+            if (existing == null) {
+                return;
+            }
+            totalLength -= existing.length();
+            for (String term : existing.terms()) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(contentId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
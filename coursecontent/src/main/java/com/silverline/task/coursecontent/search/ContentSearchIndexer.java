@@ -0,0 +1,72 @@
+package com.silverline.task.coursecontent.search;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.projection.SearchDocumentRow;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps {@link ContentSearchIndex} in sync with the database:
+ * full load at startup, incremental updates on content events, and a periodic rebuild
+ * that also picks up changes made through other nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentSearchIndexer.class);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ContentSearchIndex index;
+    private final CourseContentRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval:PT15M}", initialDelayString = "${app.search.rebuild-interval:PT15M}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        index.beginRebuild();
+        try {
+            // Each keyset batch is analyzed as soon as it is read, so only one batch of full text is on the heap
+            long afterId = 0;
+            List<SearchDocumentRow> batch;
+            do {
+                batch = repository.findSearchDocuments(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                index.addToRebuild(batch);
+                count += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            index.completeRebuild();
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.warn("Search index rebuild failed, keeping the previous index: {}", e.getMessage());
+            return;
+        }
+        log.info("Search index rebuilt: {} documents in {} ms", count, System.currentTimeMillis() - start);
+    }
+
+    // After commit, so the row we re-read is the committed one (runs immediately outside a transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> repository.findSearchDocument(event.getContentId()).ifPresent(index::index);
+            case DELETED -> index.remove(event.getContentId());
+            default -> {
+                // likes / comments don't change searchable text
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.silverline.task.coursecontent.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Lower-cases, splits on anything that isn't a letter or digit, drops very short tokens and common stop words
+public final class SearchTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "with");
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (raw.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(raw)) {
+                tokens.add(raw);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,327 @@
+package com.silverline.task.coursecontent.search;
+
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over content titles, title/description keywords and uploader names.
+ * A character trie where every node keeps its own pre-ranked top-k, so a lookup is one walk down
+ * the prefix (no subtree scan). Popularity = 1 + likes + comments of every item behind a suggestion.
+ * Adding/removing an item only re-ranks the nodes on the affected keys' paths.
+ * Full rebuilds fill a new trie batch by batch; changes that arrive meanwhile are journaled and replayed
+ * onto it before the swap.
+ */
+@Component
+public class SuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // Titles longer than this are only reachable through their first characters (keeps the trie small)
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong((Entry e) -> e.weight).reversed()
+            .thenComparing(e -> e.display);
+
+    public enum Kind {
+        TITLE,
+        KEYWORD,
+        UPLOADER
+    }
+
+    public record Suggestion(String text, Kind kind, long score) {
+    }
+
+    // row == null means the item was removed
+    private record Change(Long contentId, ContentFeedRow row) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+    private Trie staged;          // being filled by a rebuild; only the rebuilding thread touches it
+    private List<Change> journal; // non-null while a rebuild is loading
+
+    // Adds or replaces one content item
+    public void index(ContentFeedRow row) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(new Change(row.getId(), row));
+            }
+            trie.remove(row.getId());
+            trie.add(row, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long contentId) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(new Change(contentId, null));
+            }
+            trie.remove(contentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Starts a rebuild: the caller feeds the table with addToRebuild, then calls completeRebuild
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            staged = new Trie();
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Built off to the side without blocking lookups; ranking is deferred to completeRebuild
+    public void addToRebuild(Collection<ContentFeedRow> rows) {
+        rows.forEach(row -> staged.add(row, false));
+    }
+
+    public void completeRebuild() {
+        Trie fresh = staged;
+        fresh.rankAll(fresh.root); // one bottom-up pass instead of re-ranking per insert
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : journal) {
+                fresh.remove(change.contentId());
+                if (change.row() != null) {
+                    fresh.add(change.row(), true);
+                }
+            }
+            trie = fresh;
+            staged = null;
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            staged = null;
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Whole table in one go (small data sets, tests)
+    public void rebuild(Collection<ContentFeedRow> rows) {
+        beginRebuild();
+        addToRebuild(rows);
+        completeRebuild();
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = trie.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.stream()
+                    .limit(Math.min(limit, MAX_SUGGESTIONS))
+                    .map(e -> new Suggestion(e.display, e.kind, e.weight))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of distinct suggestions
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String key = value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final Kind kind;
+        private final String display;
+        private long weight;
+
+        private Entry(String key, Kind kind, String display) {
+            this.key = key;
+            this.kind = kind;
+            this.display = display;
+        }
+    }
+
+    private record Contribution(Entry entry, long weight) {
+    }
+
+    private static final class Node {
+        private Map<Character, Node> children; // allocated lazily, most nodes are leaves
+        private List<Entry> terminals;          // suggestions whose key ends exactly here
+        private List<Entry> top = List.of();    // best MAX_SUGGESTIONS in this subtree
+
+        private Node child(char c) {
+            return children == null ? null : children.get(c);
+        }
+
+        private boolean isEmpty() {
+            return (children == null || children.isEmpty()) && (terminals == null || terminals.isEmpty());
+        }
+    }
+
+    // Not thread-safe on its own; SuggestionIndex guards it with the lock
+    private static final class Trie {
+        private final Node root = new Node();
+        private final Map<String, Entry> entries = new HashMap<>();                // kind:key -> entry
+        private final Map<Long, List<Contribution>> contributions = new HashMap<>(); // contentId -> what it added
+
+        private void add(ContentFeedRow row, boolean rerank) {
+            long weight = 1L + Math.max(row.getLikeCount(), 0) + Math.max(row.getCommentCount(), 0);
+
+            Map<String, Kind> candidates = new LinkedHashMap<>();
+            Map<String, String> displays = new HashMap<>();
+            addCandidate(candidates, displays, Kind.TITLE, row.getFileName());
+            addCandidate(candidates, displays, Kind.UPLOADER, row.getUploaderName());
+            for (String field : new String[]{row.getFileName(), row.getDescription()}) {
+                for (String token : SearchTokenizer.tokenize(field)) {
+                    addCandidate(candidates, displays, Kind.KEYWORD, token);
+                }
+            }
+
+            List<Contribution> added = new ArrayList<>(candidates.size());
+            candidates.forEach((id, kind) -> {
+                String key = id.substring(id.indexOf(':') + 1);
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    entry = new Entry(key, kind, displays.get(id));
+                    entries.put(id, entry);
+                    Node node = root;
+                    for (int i = 0; i < key.length(); i++) {
+                        if (node.children == null) {
+                            node.children = new HashMap<>(4);
+                        }
+                        node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                    }
+                    if (node.terminals == null) {
+                        node.terminals = new ArrayList<>(1);
+                    }
+                    node.terminals.add(entry);
+                }
+                entry.weight += weight;
+                added.add(new Contribution(entry, weight));
+                if (rerank) {
+                    rerank(key);
+                }
+            });
+            contributions.put(row.getId(), added);
+        }
+
+        private void remove(Long contentId) {
+            List<Contribution> removed = contributions.remove(contentId);
+            if (removed == null) {
+                return;
+            }
+            for (Contribution contribution : removed) {
+                Entry entry = contribution.entry();
+                entry.weight -= contribution.weight();
+                if (entry.weight <= 0) {
+                    entries.remove(entry.kind + ":" + entry.key);
+                    Node node = root;
+                    for (int i = 0; i < entry.key.length() && node != null; i++) {
+                        node = node.child(entry.key.charAt(i));
+                    }
+                    if (node != null && node.terminals != null) {
+                        node.terminals.remove(entry);
+                    }
+                }
+                rerank(entry.key);
+            }
+        }
+
+        private void addCandidate(Map<String, Kind> candidates, Map<String, String> displays, Kind kind, String value) {
+            String key = normalize(value);
+            if (key.isEmpty()) {
+                return;
+            }
+            String id = kind + ":" + key;
+            candidates.putIfAbsent(id, kind);
+            displays.putIfAbsent(id, kind == Kind.KEYWORD ? key : value.trim());
+        }
+
+        private void rankAll(Node node) {
+            if (node.children != null) {
+                node.children.values().forEach(this::rankAll);
+            }
+            rank(node);
+        }
+
+        // Recomputes top-k bottom-up along one key's path, pruning nodes that became empty
+        private void rerank(String key) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.child(key.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                path.add(node);
+            }
+
+            for (int depth = path.size() - 1; depth >= 0; depth--) {
+                Node current = path.get(depth);
+                if (depth > 0 && current.isEmpty()) {
+                    path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                    continue;
+                }
+                rank(current);
+            }
+        }
+
+        // A node's top-k is the best of its own terminals and its children's top-k lists
+        private void rank(Node node) {
+            List<Entry> candidates = new ArrayList<>();
+            if (node.terminals != null) {
+                candidates.addAll(node.terminals);
+            }
+            if (node.children != null) {
+                node.children.values().forEach(child -> candidates.addAll(child.top));
+            }
+            candidates.sort(BY_POPULARITY);
+            node.top = List.copyOf(candidates.subList(0, Math.min(candidates.size(), MAX_SUGGESTIONS)));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.silverline.task.coursecontent.search;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps {@link SuggestionIndex} in sync: full load at startup and on the search rebuild interval,
+ * incremental add/remove on content events.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndexer.class);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final SuggestionIndex index;
+    private final CourseContentRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval:PT15M}", initialDelayString = "${app.search.rebuild-interval:PT15M}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        index.beginRebuild();
+        try {
+            // Each keyset batch goes into the new trie as soon as it is read
+            List<ContentFeedRow> batch = repository.findFeedRowsHead(PageRequest.of(0, REBUILD_BATCH_SIZE));
+            while (!batch.isEmpty()) {
+                index.addToRebuild(batch);
+                count += batch.size();
+                if (batch.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                ContentFeedRow last = batch.get(batch.size() - 1);
+                batch = repository.findFeedRowsAfter(last.getUploadDate(), last.getId(), PageRequest.of(0, REBUILD_BATCH_SIZE));
+            }
+            index.completeRebuild();
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.warn("Suggestion index rebuild failed, keeping the previous trie: {}", e.getMessage());
+            return;
+        }
+        log.info("Suggestion index rebuilt: {} items, {} suggestions in {} ms",
+                count, index.size(), System.currentTimeMillis() - start);
+    }
+
+    // New/edited items are indexed right away; like/comment popularity catches up on the next rebuild
+    // (re-reading the row on every like would put a query on the hottest write path)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> repository.findFeedRowsByIdIn(List.of(event.getContentId())).forEach(index::index);
+            case DELETED -> index.remove(event.getContentId());
+            default -> {
+                // popularity only
+            }
+        }
+    }
+}
@@ -34,7 +34,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         // 🟢 1. SPECIFIC AUTHENTICATED ENDPOINTS (Must come FIRST)
-                        .requestMatchers("/api/content/my-contents").authenticated()
+                        .requestMatchers("/api/content/my-contents", "/api/content/my-contents/**").authenticated()
+                        .requestMatchers("/api/content/export").authenticated() // full-table stream, not for anonymous callers
 
                         // 🟢 2. PUBLIC ENDPOINTS
                         .requestMatchers("/api/auth/**").permitAll()
@@ -0,0 +1,10 @@
+package com.silverline.task.coursecontent.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ContentExportService {
+
+    // Streams every course content row as newline-delimited JSON (one object per line)
+    void exportNdjson(OutputStream out) throws IOException;
+}
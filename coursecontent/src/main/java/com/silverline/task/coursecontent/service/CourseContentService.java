@@ -1,12 +1,18 @@
 package com.silverline.task.coursecontent.service;
 
+import com.silverline.task.coursecontent.controller.dto.response.BrowseResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FeedChangesResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.MyContentsSummaryDTO;
+import com.silverline.task.coursecontent.controller.dto.response.SuggestionResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.SummaryResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.UploadResponseDTO;
 import com.silverline.task.coursecontent.model.CourseContent;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface CourseContentService {
@@ -14,7 +20,36 @@ public interface CourseContentService {
     // ✅ CHANGED: Added userEmail to check "LikedByCurrentUser" status
     Page<CourseContentResponseDTO> getAllContent(int page, int size, String userEmail);
 
-    List<CourseContentResponseDTO> getMyContents(String userEmail);
+    // Version of the guest feed bodies below; changes on uploads/deletes and once per body TTL
+    String getGuestFeedVersion();
+
+    // Same page for anonymous viewers, already serialized to UTF-8 JSON (cached per guest feed version)
+    byte[] getAllContentJson(int page, int size, String guestFeedVersion);
+
+    // Keyset-paginated feed; cursor is null/blank for the first page
+    CursorPageResponseDTO<CourseContentResponseDTO> getFeed(String cursor, int size, String userEmail);
+
+    // Delta sync: items created / changed / deleted after change-log version 'since'
+    FeedChangesResponseDTO getFeedChanges(Long since, String userEmail);
+
+    // Ranked full-text search over names, descriptions, AI summaries and extracted file text
+    Page<CourseContentResponseDTO> searchContent(String query, int page, int size, String userEmail);
+
+    // Items ranked by time-decayed likes + comments (served from the in-memory trending index)
+    Page<CourseContentResponseDTO> getTrending(int page, int size, String userEmail);
+
+    // Filtered listing (type / uploader / upload date window, all optional) with facet counts, keyset-paginated
+    BrowseResponseDTO browseContent(String type, Long uploaderId, LocalDate from, LocalDate to,
+                                    String cursor, int size, String userEmail);
+
+    // Typeahead: top suggestions (titles, keywords, uploaders) for a prefix, most popular first
+    List<SuggestionResponseDTO> suggest(String prefix, int limit);
+
+    // Uploader's own items, newest first, keyset-paginated like the feed
+    CursorPageResponseDTO<CourseContentResponseDTO> getMyContents(String userEmail, String cursor, int size);
+
+    // Dashboard header: total uploads, likes and comments (cached per user)
+    MyContentsSummaryDTO getMyContentsSummary(String userEmail);
 
     UploadResponseDTO uploadFile(MultipartFile file, String description, String baseDownloadUrl, String userEmail);
 
@@ -29,5 +64,8 @@ public interface CourseContentService {
 
     SummaryResponseDTO generateAndSaveSummary(Long contentId);
 
+    // Stored AI summary, or null when none was generated yet
+    SummaryResponseDTO getSummary(Long contentId);
+
     CourseContent getById(Long id);
 }
\ No newline at end of file
@@ -1,13 +1,29 @@
 package com.silverline.task.coursecontent.service;
 
+import com.silverline.task.coursecontent.controller.dto.request.InteractionOperation;
 import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.InteractionResultDTO;
+import com.silverline.task.coursecontent.controller.dto.response.LikerResponseDTO;
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 
 public interface InteractionService {
 
     void toggleLike(Long contentId, String userEmail);
 
+    // Idempotent: liking twice (or unliking something not liked) changes nothing
+    void setLike(Long contentId, String userEmail, boolean liked);
+
+    // "Who liked this", ascending user ID
+    Page<LikerResponseDTO> getLikers(Long contentId, int page, int size);
+
     CommentResponseDTO addComment(Long contentId, String text, String userEmail);
 
-    List<CommentResponseDTO> getComments(Long contentId);
-}
\ No newline at end of file
+    // Newest first, keyset-paginated on (createdAt, id); a null cursor means the first page
+    CursorPageResponseDTO<CommentResponseDTO> getComments(Long contentId, String cursor, int size);
+
+    // Applies the operations in order, in ONE transaction; one result per operation (invalid ones fail alone)
+    List<InteractionResultDTO> applyBatch(List<InteractionOperation> operations, String userEmail);
+}
@@ -7,8 +7,16 @@ import com.silverline.task.coursecontent.model.User;
 import java.util.List;
 
 public interface NotificationService {
+
+    // One pending notification, for callers that create many at once
+    record NotificationRequest(User recipient, User actor, CourseContent content, NotificationType type) {
+    }
+
     void createNotification(User recipient, User actor, CourseContent content, NotificationType type);
 
+    // Same rules as createNotification, written with a single saveAll
+    void createNotifications(List<NotificationRequest> requests);
+
     // ✅ Change return type here
     List<NotificationResponseDTO> getUserNotifications(String email);
 
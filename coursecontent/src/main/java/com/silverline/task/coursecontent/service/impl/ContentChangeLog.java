@@ -0,0 +1,93 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.model.ContentChange;
+import com.silverline.task.coursecontent.repository.ContentChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feed change log behind the delta-sync endpoint.
+ * Writes one row per content event inside the publisher's transaction (plain @EventListener), so a change
+ * and its log entry commit or roll back together. Ids are allocated at insert time but become visible at commit,
+ * so a slow transaction can commit a lower id after a higher one has been read. Reads therefore only advance the
+ * version over a contiguous run of ids: at a gap they stop and wait, until the entry after the gap is older than
+ * the gap timeout (the missing id was rolled back). The timeout must exceed the longest write transaction.
+ */
+@Component
+public class ContentChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentChangeLog.class);
+
+    public record ChangeBatch(long version, boolean resetRequired, boolean hasMore, List<ContentChange> changes) {
+    }
+
+    private final ContentChangeRepository changeRepository;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    public ContentChangeLog(ContentChangeRepository changeRepository,
+                            @Value("${app.changes.gap-timeout:PT1M}") Duration gapTimeout,
+                            @Value("${app.changes.retention:P7D}") Duration retention) {
+        this.changeRepository = changeRepository;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        changeRepository.save(new ContentChange(event.getContentId(), event.getType()));
+    }
+
+    // Changes after 'since' (at most 'limit'). No/unknown 'since' => a safe baseline version + resetRequired.
+    @Transactional(readOnly = true)
+    public ChangeBatch readSince(Long since, int limit) {
+        LocalDateTime gapsClosedBefore = LocalDateTime.now().minus(gapTimeout);
+        Long oldest = changeRepository.findOldestId();
+        if (since == null || since < 0 || (oldest != null && since < oldest - 1)) {
+            // Nothing older than the gap timeout can still commit; replaying the changes after it is harmless
+            Long baseline = changeRepository.findLatestIdBefore(gapsClosedBefore);
+            return new ChangeBatch(baseline == null ? 0 : baseline, true, false, List.of());
+        }
+
+        List<ContentChange> changes = changeRepository.findAfter(since, PageRequest.of(0, limit + 1));
+        List<ContentChange> batch = new ArrayList<>();
+        long version = since;
+        boolean waiting = false;
+        for (ContentChange change : changes) {
+            if (batch.size() == limit) {
+                break;
+            }
+            if (change.getId() != version + 1 && change.getChangedAt().isAfter(gapsClosedBefore)) {
+                waiting = true; // a lower id may still be committing
+                break;
+            }
+            batch.add(change);
+            version = change.getId();
+        }
+        boolean hasMore = !waiting && changes.size() > limit;
+        return new ChangeBatch(version, false, hasMore, batch);
+    }
+
+    // Trims history older than the retention; clients behind that point get resetRequired
+    @Scheduled(cron = "${app.changes.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purge() {
+        Long boundary = changeRepository.findLatestIdBefore(LocalDateTime.now().minus(retention));
+        if (boundary != null) {
+            int removed = changeRepository.deleteOlderThan(boundary);
+            log.info("Feed change log purged {} entries older than {}", removed, retention);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.repository.ContentDetailRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * One-time move of AI summaries from the legacy course_contents.summary / key_points columns
+ * into content_details. Idempotent: runs on every startup, does nothing once the old columns are empty
+ * (or never existed). Ordered first so the search index rebuild already sees the moved summaries.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentDetailBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentDetailBackfill.class);
+
+    private final ContentDetailRepository detailRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfill() {
+        if (detailRepository.countLegacySummaryColumns() == 0) {
+            return;
+        }
+        int copied = detailRepository.copyLegacySummaries();
+        int cleared = detailRepository.clearLegacySummaries();
+        if (copied > 0 || cleared > 0) {
+            log.info("Moved {} summaries to content_details ({} legacy rows cleared)", copied, cleared);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverline.task.coursecontent.service.ContentExportService;
+import com.silverline.task.coursecontent.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ContentExportServiceImpl implements ContentExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentExportServiceImpl.class);
+
+    private static final String EXPORT_SQL =
+            "SELECT c.id, c.file_name, c.description, c.file_type, c.file_size, c.upload_date, c.file_url, " +
+            "c.like_count, c.comment_count, c.user_id, u.name AS uploader_name, u.email AS uploader_email " +
+            "FROM course_contents c LEFT JOIN users u ON u.id = c.user_id ORDER BY c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final FileStorageService fileStorageService;
+
+    @Override
+    public void exportNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // the servlet container owns the stream
+
+            long[] rows = {0};
+            jdbcTemplate.query(connection -> {
+                // Forward-only + Integer.MIN_VALUE fetch size = MySQL streams rows one at a time
+                // instead of buffering the whole result set in the heap
+                PreparedStatement ps = connection.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                writeRow(json, rs);
+                rows[0]++;
+            });
+
+            json.flush();
+            log.info("NDJSON export finished: {} rows", rows[0]);
+        }
+    }
+
+    private void writeRow(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong("id"));
+            json.writeStringField("fileName", rs.getString("file_name"));
+            json.writeStringField("description", rs.getString("description"));
+            json.writeStringField("fileType", rs.getString("file_type"));
+            json.writeNumberField("fileSize", rs.getLong("file_size"));
+
+            LocalDateTime uploadDate = rs.getObject("upload_date", LocalDateTime.class);
+            json.writeStringField("uploadDate", uploadDate != null ? uploadDate.toString() : null);
+
+            String fileUrl = rs.getString("file_url");
+            json.writeStringField("fileUrl", (fileUrl == null || fileUrl.startsWith("http"))
+                    ? fileUrl : fileStorageService.getPublicUrl(fileUrl));
+
+            json.writeNumberField("likeCount", rs.getInt("like_count"));
+            json.writeNumberField("commentCount", rs.getInt("comment_count"));
+            json.writeObjectField("uploaderId", rs.getObject("user_id", Long.class));
+            String uploaderName = rs.getString("uploader_name");
+            json.writeStringField("uploadedBy", uploaderName != null ? uploaderName : rs.getString("uploader_email"));
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            // Client went away - abort the query instead of draining the rest of the table
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Background job that repairs drift between the denormalized like/comment counters on
+ * course_contents and the content_likes / comments tables they summarize.
+ * Runs once at startup (back-fills existing rows) and then on a fixed schedule.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CounterReconciliationJob.class);
+
+    private final CourseContentRepository contentRepository;
+    private final ContentVersions contentVersions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.counters.reconcile-cron:0 */15 * * * *}")
+    @Transactional
+    @CacheEvict(value = {ContentCounterCache.CACHE_NAME, UploaderTotalsCache.CACHE_NAME}, allEntries = true)
+    public void reconcile() {
+        int repaired = contentRepository.reconcileCounters();
+        if (repaired > 0) {
+            log.warn("Counter reconciliation repaired {} course_contents rows", repaired);
+            contentVersions.feedChanged();
+        } else {
+            log.debug("Counter reconciliation found no drift");
+        }
+    }
+}
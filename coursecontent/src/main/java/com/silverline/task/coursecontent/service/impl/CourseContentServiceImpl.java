@@ -1,14 +1,41 @@
 package com.silverline.task.coursecontent.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentFeedCache;
+import com.silverline.task.coursecontent.cache.ContentItemCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.cache.UserIdCache;
+import com.silverline.task.coursecontent.controller.dto.response.BrowseResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FacetCountDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FeedChangesResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.MyContentsSummaryDTO;
+import com.silverline.task.coursecontent.controller.dto.response.SuggestionResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.SummaryResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.UploadResponseDTO;
 import com.silverline.task.coursecontent.exceptions.FileStorageException;
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
 import com.silverline.task.coursecontent.exceptions.ResourceNotFoundException;
+import com.silverline.task.coursecontent.facet.FacetIndex;
+import com.silverline.task.coursecontent.model.ContentChange;
+import com.silverline.task.coursecontent.model.ContentDetail;
+import com.silverline.task.coursecontent.model.ContentText;
 import com.silverline.task.coursecontent.model.CourseContent;
 import com.silverline.task.coursecontent.model.User;
+import com.silverline.task.coursecontent.repository.ContentDetailRepository;
+import com.silverline.task.coursecontent.repository.ContentTextRepository;
 import com.silverline.task.coursecontent.repository.CourseContentRepository;
 import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentCounters;
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import com.silverline.task.coursecontent.repository.projection.UploaderTotals;
+import com.silverline.task.coursecontent.search.ContentSearchIndex;
+import com.silverline.task.coursecontent.search.SuggestionIndex;
+import com.silverline.task.coursecontent.trending.TrendingIndex;
 import com.silverline.task.coursecontent.service.AiSummarizationService;
 import com.silverline.task.coursecontent.service.CourseContentService;
 import com.silverline.task.coursecontent.service.FileStorageService;
@@ -16,7 +43,7 @@ import com.silverline.task.coursecontent.service.FileTextExtractor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,8 +53,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,81 +85,335 @@ public class CourseContentServiceImpl implements CourseContentService {
 
     private static final long MAX_SIZE_BYTES = 100L * 1024 * 1024; // 100MB
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_INDEXED_TEXT_CHARS = 100_000;
+    private static final int MAX_CHANGES_PER_POLL = 500;
+    private static final Sort FEED_SORT = Sort.by("uploadDate").descending();
+
     private final CourseContentRepository repository;
     private final FileStorageService fileStorageService;
     private final FileTextExtractor fileTextExtractor;
     private final AiSummarizationService aiSummarizationService;
     private final UserRepository userRepository;
+    private final ContentFeedCache contentFeedCache;
+    private final ContentItemCache contentItemCache;
+    private final ContentCounterCache contentCounterCache;
+    private final ContentVersions contentVersions;
+    private final UploaderTotalsCache uploaderTotalsCache;
+    private final ContentTextRepository contentTextRepository;
+    private final ContentDetailRepository contentDetailRepository;
+    private final ContentSearchIndex contentSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final TrendingIndex trendingIndex;
+    private final FacetIndex facetIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentChangeLog contentChangeLog;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final UserIdCache userIdCache;
+    private final ObjectMapper objectMapper;
 
     public CourseContentServiceImpl(CourseContentRepository repository,
                                     FileStorageService fileStorageService,
                                     FileTextExtractor fileTextExtractor,
                                     AiSummarizationService aiSummarizationService,
-                                    UserRepository userRepository) {
+                                    UserRepository userRepository,
+                                    ContentFeedCache contentFeedCache,
+                                    ContentItemCache contentItemCache,
+                                    ContentCounterCache contentCounterCache,
+                                    ContentVersions contentVersions,
+                                    UploaderTotalsCache uploaderTotalsCache,
+                                    ContentTextRepository contentTextRepository,
+                                    ContentDetailRepository contentDetailRepository,
+                                    ContentSearchIndex contentSearchIndex,
+                                    SuggestionIndex suggestionIndex,
+                                    TrendingIndex trendingIndex,
+                                    FacetIndex facetIndex,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ContentChangeLog contentChangeLog,
+                                    LikeWriteBuffer likeWriteBuffer,
+                                    UserIdCache userIdCache,
+                                    ObjectMapper objectMapper) {
         this.repository = repository;
         this.fileStorageService = fileStorageService;
         this.fileTextExtractor = fileTextExtractor;
         this.aiSummarizationService = aiSummarizationService;
         this.userRepository = userRepository;
+        this.contentFeedCache = contentFeedCache;
+        this.contentItemCache = contentItemCache;
+        this.contentCounterCache = contentCounterCache;
+        this.contentVersions = contentVersions;
+        this.uploaderTotalsCache = uploaderTotalsCache;
+        this.contentTextRepository = contentTextRepository;
+        this.contentDetailRepository = contentDetailRepository;
+        this.contentSearchIndex = contentSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.trendingIndex = trendingIndex;
+        this.facetIndex = facetIndex;
+        this.eventPublisher = eventPublisher;
+        this.contentChangeLog = contentChangeLog;
+        this.likeWriteBuffer = likeWriteBuffer;
+        this.userIdCache = userIdCache;
+        this.objectMapper = objectMapper;
     }
 
-    // ✅ FIX 1: @Transactional ensures 'likes' can be loaded without LazyInitException
+    // Read-only transaction: page load (on a miss) + counter/like lookups share one connection
     @Override
     @Transactional(readOnly = true)
     public Page<CourseContentResponseDTO> getAllContent(int page, int size, String userEmail) {
 
-        // 1. Get Generic Page from Redis (Fast)
-        Page<CourseContentResponseDTO> cachedPage = fetchCachedContent(page, size);
+        // 1. Page membership (ordered IDs) from the feed cache, items from the shared per-item cache.
+        //    On a feed cache miss the rows were just read, so they are used as they are
+        Pageable pageable = PageRequest.of(page, size, FEED_SORT);
+        List<CourseContentResponseDTO> loaded = new ArrayList<>();
+        Page<Long> ids = contentFeedCache.getPageIds(pageable, () -> loadPageIds(pageable, loaded));
+        List<CourseContentResponseDTO> items = loaded.isEmpty()
+                ? contentItemCache.getItems(ids.getContent(), this::loadItems)
+                : loaded;
+
+        // 2. Overlay fresh counters (+ the user's like flags when logged in)
+        return new PageImpl<>(decorate(items, userEmail), ids.getPageable(), ids.getTotalElements());
+    }
 
-        // 2. If user is Guest, return as is
-        if (userEmail == null || userEmail.equals("anonymousUser")) {
-            return cachedPage;
+    @Override
+    public String getGuestFeedVersion() {
+        return contentFeedCache.bodyVersion(contentVersions.feedStructureVersion());
+    }
+
+    // Guest feed page as final JSON bytes: a cache hit costs no Jackson work and no DTO copies
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getAllContentJson(int page, int size, String guestFeedVersion) {
+        return contentFeedCache.getPageBody(page, size, guestFeedVersion, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(getAllContent(page, size, null));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize feed page " + page, e);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<CourseContentResponseDTO> getFeed(String cursor, int size, String userEmail) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        FeedCursor after = FeedCursor.decode(cursor); // validate BEFORE touching the cache
+
+        // 1. Cursor pages are stable (no offsets), so they cache well; a miss hands over the rows it read
+        List<CourseContentResponseDTO> loaded = new ArrayList<>();
+        CursorPageResponseDTO<Long> ids = contentFeedCache.getSliceIds(
+                after == null ? "head" : cursor, pageSize, () -> loadFeedSliceIds(after, pageSize, loaded));
+        List<CourseContentResponseDTO> items = loaded.isEmpty()
+                ? contentItemCache.getItems(ids.getItems(), this::loadItems)
+                : loaded;
+
+        // 2. Same counter overlay + personalization as the offset feed
+        return new CursorPageResponseDTO<>(decorate(items, userEmail), ids.getNextCursor(), ids.isHasNext());
+    }
+
+    // Fetches size + 1 rows to learn whether another page exists - no count(*) query.
+    // The items go to 'loaded' for this request and seed the item cache for the next ones
+    private CursorPageResponseDTO<Long> loadFeedSliceIds(FeedCursor after, int size, List<CourseContentResponseDTO> loaded) {
+        log.info("Fetching feed slice from DB (Cache Miss) after {} size {}", after == null ? "head" : after.getId(), size);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ContentFeedRow> rows = (after == null)
+                ? repository.findFeedRowsHead(limit)
+                : repository.findFeedRowsAfter(after.getUploadDate(), after.getId(), limit);
+        CursorPageResponseDTO<CourseContentResponseDTO> slice = toSlice(rows, size);
+        loaded.addAll(slice.getItems());
+        contentItemCache.putAll(slice.getItems());
+        return new CursorPageResponseDTO<>(slice.getItems().stream().map(CourseContentResponseDTO::getId).toList(),
+                slice.getNextCursor(), slice.isHasNext());
+    }
+
+    // rows holds up to size + 1 entries; the extra one only signals that another page exists
+    private CursorPageResponseDTO<CourseContentResponseDTO> toSlice(List<ContentFeedRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ContentFeedRow> slice = hasNext ? rows.subList(0, size) : rows;
+        List<CourseContentResponseDTO> items = slice.stream().map(this::toDto).collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ContentFeedRow last = slice.get(slice.size() - 1);
+            nextCursor = new FeedCursor(last.getUploadDate(), last.getId()).encode();
         }
+        return new CursorPageResponseDTO<>(items, nextCursor, hasNext);
+    }
 
-        // 3. If User Logged In -> Personalize the data (check if THEY liked it)
-        User currentUser = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    @Override
+    @Transactional(readOnly = true)
+    public FeedChangesResponseDTO getFeedChanges(Long since, String userEmail) {
+        ContentChangeLog.ChangeBatch batch = contentChangeLog.readSince(since, MAX_CHANGES_PER_POLL);
+        if (batch.resetRequired() || batch.changes().isEmpty()) {
+            return new FeedChangesResponseDTO(batch.version(), batch.resetRequired(), false, List.of(), List.of());
+        }
+
+        // Collapse the log: only each item's latest change matters
+        Map<Long, ContentChangedEvent.Type> latest = new LinkedHashMap<>();
+        for (ContentChange change : batch.changes()) {
+            latest.put(change.getContentId(), change.getType());
+        }
+        Set<Long> deleted = new LinkedHashSet<>();
+        List<Long> changedIds = new ArrayList<>();
+        latest.forEach((id, type) -> {
+            if (type == ContentChangedEvent.Type.DELETED) {
+                deleted.add(id);
+            } else {
+                changedIds.add(id);
+            }
+        });
+
+        // Current state of every changed item in ONE query (gone by now => report as deleted)
+        List<CourseContentResponseDTO> upserts = changedIds.isEmpty() ? List.of()
+                : repository.findFeedRowsByIdIn(changedIds).stream().map(this::toDto).collect(Collectors.toList());
+        Set<Long> found = upserts.stream().map(CourseContentResponseDTO::getId).collect(Collectors.toSet());
+        changedIds.stream().filter(id -> !found.contains(id)).forEach(deleted::add);
+
+        return new FeedChangesResponseDTO(batch.version(), false, batch.hasMore(),
+                decorate(upserts, userEmail), new ArrayList<>(deleted));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CourseContentResponseDTO> searchContent(String query, int page, int size, String userEmail) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+
+        // Ranking + pagination happen in memory
+        ContentSearchIndex.SearchHits hits = contentSearchIndex.search(query, (int) pageable.getOffset(), pageSize);
+        return loadRanked(hits.contentIds(), hits.total(), pageable, userEmail);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CourseContentResponseDTO> getTrending(int page, int size, String userEmail) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+
+        // O(k) read of the pre-sorted ranking - no aggregate query
+        TrendingIndex.TrendingPage ranked = trendingIndex.page((int) pageable.getOffset(), pageSize);
+        return loadRanked(ranked.contentIds(), ranked.total(), pageable, userEmail);
+    }
+
+    // Ranked ids resolved through the item cache (one IN query for misses), kept in the ranking's order
+    private Page<CourseContentResponseDTO> loadRanked(List<Long> ids, long total, Pageable pageable, String userEmail) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        List<CourseContentResponseDTO> items = contentItemCache.getItems(ids, this::loadItems);
+        return new PageImpl<>(decorate(items, userEmail), pageable, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BrowseResponseDTO browseContent(String type, Long uploaderId, LocalDate from, LocalDate to,
+                                           String cursor, int size, String userEmail) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        FeedCursor after = FeedCursor.decode(cursor);
+        String fileType = (type == null || type.isBlank()) ? null : type;
+        LocalDateTime fromTime = (from != null) ? from.atStartOfDay() : null;
+        LocalDateTime toTime = (to != null) ? to.plusDays(1).atStartOfDay() : null; // 'to' is inclusive
+
+        // Filtered slices aren't cached (too many combinations); the composite indexes keep them to a range scan
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<ContentFeedRow> rows = (after == null)
+                ? repository.findBrowseRowsHead(fileType, uploaderId, fromTime, toTime, limit)
+                : repository.findBrowseRowsAfter(fileType, uploaderId, fromTime, toTime,
+                after.getUploadDate(), after.getId(), limit);
+        CursorPageResponseDTO<CourseContentResponseDTO> slice = toSlice(rows, pageSize);
+
+        // Facet counts come from the incrementally maintained index - no GROUP BY
+        return new BrowseResponseDTO(decorate(slice.getItems(), userEmail), slice.getNextCursor(), slice.isHasNext(),
+                toFacetDtos(facetIndex.typeCounts(uploaderId)), toFacetDtos(facetIndex.uploaderCounts(fileType)));
+    }
+
+    private List<FacetCountDTO> toFacetDtos(List<FacetIndex.FacetCount> counts) {
+        return counts.stream()
+                .map(c -> new FacetCountDTO(c.value(), c.label(), c.count()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SuggestionResponseDTO> suggest(String prefix, int limit) {
+        // Pure in-memory lookup: no DB, no cache round trip
+        return suggestionIndex.suggest(prefix, limit).stream()
+                .map(s -> new SuggestionResponseDTO(s.text(), s.kind().name(), s.score()))
+                .collect(Collectors.toList());
+    }
+
+    // Cached pages only fix WHICH items are shown. Counters come from the shared per-item counter cache (plus
+    // likes still in the write-behind buffer) and 'likedByCurrentUser' from ONE query for the whole page
+    private List<CourseContentResponseDTO> decorate(List<CourseContentResponseDTO> items, String userEmail) {
+        if (items.isEmpty()) {
+            return items;
+        }
+
+        List<Long> ids = items.stream().map(CourseContentResponseDTO::getId).toList();
+        Map<Long, ContentCounters> counters = contentCounterCache.getCounters(ids);
+        boolean guest = (userEmail == null || userEmail.equals("anonymousUser"));
+        Set<Long> likedIds;
+        if (guest) {
+            likedIds = Collections.emptySet();
+        } else {
+            viewerId(userEmail); // a signed-in email without a user row is an error, not a guest view
+            likedIds = new HashSet<>(repository.findLikedContentIds(userEmail, ids));
+        }
+        Map<Long, Boolean> bufferedLikes = guest ? Map.of() : likeWriteBuffer.likedOverrides(userEmail, ids);
 
         // We must clone the list because the cached list is immutable/shared
-        List<CourseContentResponseDTO> personalizedList = cachedPage.getContent().stream()
+        return items.stream()
                 .map(dto -> {
-                    CourseContentResponseDTO copy = new CourseContentResponseDTO();
-                    copy.setId(dto.getId());
-                    copy.setFileName(dto.getFileName());
-                    copy.setDescription(dto.getDescription());
-                    copy.setFileType(dto.getFileType());
-                    copy.setFileSize(dto.getFileSize());
-                    copy.setUploadDate(dto.getUploadDate());
-                    copy.setFileUrl(dto.getFileUrl());
-                    copy.setUploadedBy(dto.getUploadedBy());
-                    copy.setUploaderImage(dto.getUploaderImage());
-                    copy.setLikeCount(dto.getLikeCount());
-                    copy.setCommentCount(dto.getCommentCount());
-
-                    // Check Database for specific user interaction
-                    CourseContent contentEntity = repository.findById(dto.getId()).orElse(null);
-                    if(contentEntity != null && contentEntity.getLikes().contains(currentUser)) {
-                        copy.setLikedByCurrentUser(true);
-                    } else {
-                        copy.setLikedByCurrentUser(false);
+                    CourseContentResponseDTO copy = copyOf(dto);
+                    ContentCounters fresh = counters.get(dto.getId());
+                    if (fresh != null) {
+                        copy.setLikeCount(fresh.getLikeCount());
+                        copy.setCommentCount(fresh.getCommentCount());
                     }
-
+                    // Likes still waiting in the write-behind buffer
+                    copy.setLikeCount(copy.getLikeCount() + likeWriteBuffer.likeDelta(dto.getId()));
+                    copy.setLikedByCurrentUser(bufferedLikes.getOrDefault(dto.getId(), likedIds.contains(dto.getId())));
                     return copy;
                 }).collect(Collectors.toList());
+    }
+
+    // Cached email -> id lookup, so checking that the viewer exists costs no query on the hot path
+    private Long viewerId(String userEmail) {
+        return userIdCache.find(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    private CourseContentResponseDTO copyOf(CourseContentResponseDTO dto) {
+        CourseContentResponseDTO copy = new CourseContentResponseDTO();
+        copy.setId(dto.getId());
+        copy.setFileName(dto.getFileName());
+        copy.setDescription(dto.getDescription());
+        copy.setFileType(dto.getFileType());
+        copy.setFileSize(dto.getFileSize());
+        copy.setUploadDate(dto.getUploadDate());
+        copy.setFileUrl(dto.getFileUrl());
+        copy.setUploadedBy(dto.getUploadedBy());
+        copy.setUploaderImage(dto.getUploaderImage());
+        copy.setLikeCount(dto.getLikeCount());
+        copy.setCommentCount(dto.getCommentCount());
+        return copy;
+    }
 
-        return new PageImpl<>(personalizedList, cachedPage.getPageable(), cachedPage.getTotalElements());
+    // Only runs on a feed cache miss. The items go to 'loaded' for this request (no second read through the
+    // item cache, which is a no-op without Redis) and seed the item cache for the next ones
+    private Page<Long> loadPageIds(Pageable pageable, List<CourseContentResponseDTO> loaded) {
+        log.info("Fetching content from DB (Cache Miss) for page {} size {}", pageable.getPageNumber(), pageable.getPageSize());
+        Page<CourseContentResponseDTO> rows = repository.findFeedRows(pageable).map(this::toDto);
+        loaded.addAll(rows.getContent());
+        contentItemCache.putAll(rows.getContent());
+        return rows.map(CourseContentResponseDTO::getId);
     }
 
-    // Internal Helper (Cached)
-    @Cacheable(value = "contentFeed", key = "#page + '-' + #size")
-    public Page<CourseContentResponseDTO> fetchCachedContent(int page, int size) {
-        log.info("Fetching content from DB (Cache Miss) for page {} size {}", page, size);
-        Pageable pageable = PageRequest.of(page, size, Sort.by("uploadDate").descending());
-        return repository.findAll(pageable).map(this::toDto);
+    // Item cache misses: ONE query for all of them
+    private List<CourseContentResponseDTO> loadItems(List<Long> ids) {
+        return repository.findFeedRowsByIdIn(ids).stream().map(this::toDto).collect(Collectors.toList());
     }
 
     @Override
-    @CacheEvict(value = "contentFeed", allEntries = true)
+    @CacheEvict(value = {"contentFeed", "contentFeedCursor"}, allEntries = true)
     public UploadResponseDTO uploadFile(MultipartFile file, String description, String baseDownloadUrl, String userEmail) {
         if (file.isEmpty()) throw new FileStorageException("File is empty");
 
@@ -148,6 +439,10 @@ public class CourseContentServiceImpl implements CourseContentService {
             entity.setUser(user);
 
             CourseContent saved = repository.save(entity);
+            storeExtractedText(saved.getId(), file);
+            contentVersions.feedStructureChanged();
+            uploaderTotalsCache.evict(userEmail);
+            eventPublisher.publishEvent(new ContentChangedEvent(saved.getId(), ContentChangedEvent.Type.CREATED, user.getId()));
 
             UploadResponseDTO dto = new UploadResponseDTO();
             dto.setId(saved.getId());
@@ -162,7 +457,7 @@ public class CourseContentServiceImpl implements CourseContentService {
     }
 
     @Override
-    @CacheEvict(value = "contentFeed", allEntries = true)
+    @CacheEvict(value = {"contentFeed", "contentFeedCursor"}, allEntries = true)
     public UploadResponseDTO addLink(String url, String description, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -182,6 +477,10 @@ public class CourseContentServiceImpl implements CourseContentService {
         }
 
         CourseContent saved = repository.save(entity);
+        contentVersions.feedStructureChanged();
+        uploaderTotalsCache.evict(userEmail);
+        eventPublisher.publishEvent(new ContentChangedEvent(saved.getId(), ContentChangedEvent.Type.CREATED, user.getId()));
+
         UploadResponseDTO dto = new UploadResponseDTO();
         dto.setId(saved.getId());
         dto.setFileName(saved.getFileName());
@@ -191,7 +490,7 @@ public class CourseContentServiceImpl implements CourseContentService {
     }
 
     @Override
-    @CacheEvict(value = "contentFeed", allEntries = true)
+    @CacheEvict(value = {"contentFeed", "contentFeedCursor"}, allEntries = true)
     public void deleteContent(Long id, String userEmail) {
         CourseContent content = repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Content not found"));
         if (userEmail != null && !content.getUser().getEmail().equals(userEmail)) {
@@ -206,6 +505,12 @@ public class CourseContentServiceImpl implements CourseContentService {
             log.error("Failed to delete S3 file", ex);
         }
         repository.delete(content);
+        contentTextRepository.deleteById(id);
+        contentDetailRepository.deleteById(id);
+        contentItemCache.evict(id);
+        contentVersions.feedStructureChanged();
+        uploaderTotalsCache.evict(content.getUser() != null ? content.getUser().getEmail() : null);
+        eventPublisher.publishEvent(new ContentChangedEvent(id, ContentChangedEvent.Type.DELETED, null));
     }
 
     @Override
@@ -213,11 +518,26 @@ public class CourseContentServiceImpl implements CourseContentService {
         deleteContent(id, null);
     }
 
-    // ✅ FIX 1: Added @Transactional to fix LazyInitializationException on Dashboard
+    // Dashboard list: keyset slices over the uploader's own rows, projection only (no entity / collection loads)
     @Override
     @Transactional(readOnly = true)
-    public List<CourseContentResponseDTO> getMyContents(String userEmail) {
-        return repository.findAllByUserEmail(userEmail).stream().map(this::toDto).toList();
+    public CursorPageResponseDTO<CourseContentResponseDTO> getMyContents(String userEmail, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<ContentFeedRow> rows = (after == null)
+                ? repository.findUserFeedRowsHead(userEmail, limit)
+                : repository.findUserFeedRowsAfter(userEmail, after.getUploadDate(), after.getId(), limit);
+
+        CursorPageResponseDTO<CourseContentResponseDTO> slice = toSlice(rows, pageSize);
+        return new CursorPageResponseDTO<>(decorate(slice.getItems(), userEmail), slice.getNextCursor(), slice.isHasNext());
+    }
+
+    @Override
+    public MyContentsSummaryDTO getMyContentsSummary(String userEmail) {
+        UploaderTotals totals = uploaderTotalsCache.get(userEmail);
+        return new MyContentsSummaryDTO(totals.getUploads(), totals.getLikes(), totals.getComments());
     }
 
     // ✅ FIX 1: Added @Transactional to fix LazyInitializationException on Download/View
@@ -245,18 +565,57 @@ public class CourseContentServiceImpl implements CourseContentService {
         String summary = aiSummarizationService.generateSummary(text);
         String points = aiSummarizationService.generateKeyPoints(text);
 
-        content.setSummary(summary);
-        content.setKeyPoints(points);
-        repository.save(content);
+        contentDetailRepository.save(new ContentDetail(contentId, summary, points)); // course_contents row untouched
+        if (isPdf(content.getFileType())) {
+            contentTextRepository.save(new ContentText(contentId, capIndexedText(text))); // real text only, not the AI prompt fallback
+        }
+        contentVersions.summaryChanged(contentId);
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId, ContentChangedEvent.Type.UPDATED, null));
 
         return new SummaryResponseDTO(content.getId(), summary, points);
     }
 
+    // Primary-key read of the detail row only; the content row is touched only to tell "no summary" from "no content"
+    @Override
+    @Transactional(readOnly = true)
+    public SummaryResponseDTO getSummary(Long contentId) {
+        Optional<ContentDetail> detail = contentDetailRepository.findById(contentId);
+        if (detail.isPresent() && detail.get().getSummary() != null) {
+            return new SummaryResponseDTO(contentId, detail.get().getSummary(), detail.get().getKeyPoints());
+        }
+        if (!repository.existsById(contentId)) {
+            throw new ResourceNotFoundException("Content not found: " + contentId);
+        }
+        return null;
+    }
+
     @Override
     public CourseContent getById(Long id) {
         return repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Content not found"));
     }
 
+    // Feed rows already carry uploader and counters - no lazy loading, no extra queries
+    private CourseContentResponseDTO toDto(ContentFeedRow row) {
+        CourseContentResponseDTO dto = new CourseContentResponseDTO();
+        dto.setId(row.getId());
+        dto.setFileName(row.getFileName());
+        dto.setDescription(row.getDescription());
+        dto.setFileType(row.getFileType());
+        dto.setFileSize(row.getFileSize());
+        dto.setUploadDate(row.getUploadDate());
+        dto.setFileUrl(resolveFileUrl(row.getFileUrl()));
+        dto.setLikeCount(row.getLikeCount());
+        dto.setCommentCount(row.getCommentCount());
+
+        if (row.getUploaderEmail() != null) {
+            dto.setUploadedBy(row.getUploaderName() != null ? row.getUploaderName() : row.getUploaderEmail());
+            dto.setUploaderImage(row.getUploaderImage());
+        } else {
+            dto.setUploadedBy("Anonymous");
+        }
+        return dto;
+    }
+
     private CourseContentResponseDTO toDto(CourseContent entity) {
         CourseContentResponseDTO dto = new CourseContentResponseDTO();
         dto.setId(entity.getId());
@@ -266,15 +625,11 @@ public class CourseContentServiceImpl implements CourseContentService {
         dto.setFileSize(entity.getFileSize());
         dto.setUploadDate(entity.getUploadDate());
 
-        if (entity.getFileUrl().startsWith("http")) {
-            dto.setFileUrl(entity.getFileUrl());
-        } else {
-            dto.setFileUrl(fileStorageService.getPublicUrl(entity.getFileUrl()));
-        }
+        dto.setFileUrl(resolveFileUrl(entity.getFileUrl()));
 
-        // access lazy collections (Safe because @Transactional is now on the caller methods)
-        dto.setLikeCount(entity.getLikes().size());
-        dto.setCommentCount(entity.getComments().size());
+        // Denormalized counters - no join table access
+        dto.setLikeCount(entity.getLikeCount());
+        dto.setCommentCount(entity.getCommentCount());
 
         if (entity.getUser() != null) {
             String name = (entity.getUser().getName() != null) ? entity.getUser().getName() : entity.getUser().getEmail();
@@ -285,4 +640,35 @@ public class CourseContentServiceImpl implements CourseContentService {
         }
         return dto;
     }
-}
\ No newline at end of file
+
+    // Keeps the file's plain text for full-text search. Never fails the upload.
+    private void storeExtractedText(Long contentId, MultipartFile file) {
+        try {
+            String text = null;
+            if (isPdf(file.getContentType())) {
+                text = fileTextExtractor.extractText(file.getBytes(), file.getContentType(), file.getOriginalFilename());
+            } else if ("text/plain".equals(file.getContentType())) {
+                text = new String(file.getBytes(), StandardCharsets.UTF_8);
+            }
+            if (text != null && !text.isBlank()) {
+                contentTextRepository.save(new ContentText(contentId, capIndexedText(text)));
+            }
+        } catch (Exception e) {
+            log.warn("Could not extract searchable text for content {}: {}", contentId, e.getMessage());
+        }
+    }
+
+    // Every writer of content_texts stores at most this much, so one huge file can't bloat the row or the index
+    private static String capIndexedText(String text) {
+        return text.length() > MAX_INDEXED_TEXT_CHARS ? text.substring(0, MAX_INDEXED_TEXT_CHARS) : text;
+    }
+
+    private boolean isPdf(String fileType) {
+        return fileType != null && fileType.toLowerCase().contains("pdf");
+    }
+
+    // External links are stored as-is, uploads as S3 keys
+    private String resolveFileUrl(String storedRef) {
+        return storedRef.startsWith("http") ? storedRef : fileStorageService.getPublicUrl(storedRef);
+    }
+}
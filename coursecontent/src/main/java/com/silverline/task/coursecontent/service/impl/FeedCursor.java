@@ -0,0 +1,45 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.exceptions.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in the feed ordering (uploadDate DESC, id DESC).
+ * Clients only ever see the opaque Base64 form produced by {@link #encode()}.
+ */
+@Getter
+public final class FeedCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime uploadDate;
+    private final Long id;
+
+    public FeedCursor(LocalDateTime uploadDate, Long id) {
+        this.uploadDate = uploadDate;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = uploadDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing cursor (= first page)
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            return new FeedCursor(LocalDateTime.parse(raw.substring(0, split)), Long.parseLong(raw.substring(split + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid feed cursor");
+        }
+    }
+}
@@ -1,6 +1,17 @@
 package com.silverline.task.coursecontent.service.impl;
 
+import com.silverline.task.coursecontent.cache.AfterCommit;
+import com.silverline.task.coursecontent.cache.CommentPageCache;
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.controller.dto.request.InteractionOperation;
 import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO; // Changed to match DTO
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.InteractionResultDTO;
+import com.silverline.task.coursecontent.controller.dto.response.LikerResponseDTO;
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.exceptions.InvalidBatchException;
 import com.silverline.task.coursecontent.exceptions.ResourceNotFoundException;
 import com.silverline.task.coursecontent.model.Comment;
 import com.silverline.task.coursecontent.model.CourseContent;
@@ -9,58 +20,179 @@ import com.silverline.task.coursecontent.model.User;
 import com.silverline.task.coursecontent.repository.CommentRepository;
 import com.silverline.task.coursecontent.repository.CourseContentRepository;
 import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.repository.projection.CommentRow;
 import com.silverline.task.coursecontent.service.InteractionService;
 import com.silverline.task.coursecontent.service.NotificationService;
+import com.silverline.task.coursecontent.service.NotificationService.NotificationRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict; // ✅ Import for Redis
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InteractionServiceImpl implements InteractionService {
 
+    private static final int MAX_COMMENT_PAGE_SIZE = 50;
+    private static final int MAX_BATCH_OPERATIONS = 200;
+    private static final int MAX_LIKER_PAGE_SIZE = 100;
+
+    private static final String INSERT_LIKE = "INSERT IGNORE INTO content_likes (content_id, user_id) VALUES (?, ?)";
+    private static final String DELETE_LIKE = "DELETE FROM content_likes WHERE content_id = ? AND user_id = ?";
+    private static final String INSERT_COMMENT =
+            "INSERT INTO comments (text, created_at, user_id, content_id) VALUES (?, ?, ?, ?)";
+    private static final String ADJUST_COUNTERS =
+            "UPDATE course_contents SET like_count = like_count + ?, comment_count = comment_count + ? WHERE id = ?";
+
     private final CourseContentRepository contentRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final NotificationService notificationService;
+    private final ContentCounterCache contentCounterCache;
+    private final ContentVersions contentVersions;
+    private final UploaderTotalsCache uploaderTotalsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final CommentPageCache commentPageCache;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
-    // ✅ REDIS: Clear cache when liking so the like count updates
-    @CacheEvict(value = "contentFeed", allEntries = true)
     public void toggleLike(Long contentId, String userEmail) {
-        CourseContent content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Content not found: " + contentId));
+        if (likeWriteBuffer.isEnabled()) {
+            User user = findBufferedLikeTarget(contentId, userEmail);
+            boolean current = currentLikeState(contentId, user);
+            // Only once the transaction commits: a rollback must not leave a like the flush would still write
+            AfterCommit.run(() -> likeWriteBuffer.record(contentId, user.getId(), userEmail, !current, current));
+            contentVersions.feedChanged(); // reads already show the buffered state
+            return;
+        }
+        CourseContent content = findContent(contentId);
+        User user = findUser(userEmail);
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userEmail));
+        // Try the unlike first: one DELETE tells us whether the like existed, no collection is loaded
+        if (contentRepository.deleteLike(contentId, user.getId()) > 0) {
+            onLikeChanged(content, user, ContentChangedEvent.Type.UNLIKED);
+        } else if (contentRepository.insertLike(contentId, user.getId()) > 0) {
+            onLikeChanged(content, user, ContentChangedEvent.Type.LIKED);
+        }
+    }
 
-        if (content.getLikes().contains(user)) {
-            content.getLikes().remove(user); // Unlike
-        } else {
-            content.getLikes().add(user); // Like
-
-            // Trigger Notification (LIKE)
-            // Don't notify if liking own post
-            if (!content.getUser().getId().equals(user.getId())) {
-                notificationService.createNotification(
-                        content.getUser(),
-                        user,
-                        content,
-                        NotificationType.LIKE
-                );
+    @Override
+    @Transactional
+    public void setLike(Long contentId, String userEmail, boolean liked) {
+        if (likeWriteBuffer.isEnabled()) {
+            User user = findBufferedLikeTarget(contentId, userEmail);
+            boolean current = currentLikeState(contentId, user);
+            if (current != liked) {
+                AfterCommit.run(() -> likeWriteBuffer.record(contentId, user.getId(), userEmail, liked, current));
+                contentVersions.feedChanged();
             }
+            return;
+        }
+        CourseContent content = findContent(contentId);
+        User user = findUser(userEmail);
+
+        if (liked && contentRepository.insertLike(contentId, user.getId()) > 0) {
+            onLikeChanged(content, user, ContentChangedEvent.Type.LIKED);
+        } else if (!liked && contentRepository.deleteLike(contentId, user.getId()) > 0) {
+            onLikeChanged(content, user, ContentChangedEvent.Type.UNLIKED);
         }
-        contentRepository.save(content);
+        // 0 rows affected: already in the requested state - no counter, cache or notification work
+    }
+
+    // Runs only when a like row was really inserted/deleted
+    private void onLikeChanged(CourseContent content, User user, ContentChangedEvent.Type change) {
+        Long contentId = content.getId();
+        boolean liked = (change == ContentChangedEvent.Type.LIKED);
+        contentRepository.adjustLikeCount(contentId, liked ? 1 : -1);
+
+        // Trigger Notification (LIKE) - don't notify if liking own post
+        if (liked && content.getUser() != null && !content.getUser().getId().equals(user.getId())) {
+            notificationService.createNotification(content.getUser(), user, content, NotificationType.LIKE);
+        }
+
+        // ✅ REDIS: Only this item's counters change - cached feed pages stay valid
+        contentCounterCache.evict(contentId);
+        if (content.getUser() != null) {
+            uploaderTotalsCache.evict(content.getUser().getEmail()); // owner's dashboard totals
+        }
+        contentVersions.feedChanged(); // new feed ETag (counts / like state changed)
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId, change, user.getId())); // trending score
+    }
+
+    // Write-behind path: validate cheaply, the buffer's flush does the writes, notifications and evictions
+    private User findBufferedLikeTarget(Long contentId, String userEmail) {
+        if (!contentRepository.existsById(contentId)) {
+            throw new ResourceNotFoundException("Content not found: " + contentId);
+        }
+        return findUser(userEmail);
+    }
+
+    // Buffered intent if there is one, otherwise one primary-key lookup. Never the node-local like index:
+    // the toggle direction must come from the shared state, or a replica with a stale bitmap flips it the wrong way
+    private boolean currentLikeState(Long contentId, User user) {
+        return likeWriteBuffer.bufferedState(contentId, user.getEmail())
+                .orElseGet(() -> contentRepository.isLikedBy(contentId, user.getId()));
     }
 
     @Override
-    // ✅ REDIS: Clear cache when commenting so comment count updates
-    @CacheEvict(value = "contentFeed", allEntries = true)
+    @Transactional(readOnly = true)
+    public Page<LikerResponseDTO> getLikers(Long contentId, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_LIKER_PAGE_SIZE));
+        Page<Long> likers = contentRepository.findLikerIds(contentId, pageable);
+        List<Long> userIds = likers.getContent();
+
+        // Display fields for this page's users only: one primary-key lookup, never a content_likes scan
+        Map<Long, User> users = userIds.isEmpty() ? Map.of()
+                : userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<LikerResponseDTO> items = userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(u -> new LikerResponseDTO(u.getId(), u.getName() != null ? u.getName() : u.getEmail(), u.getProfilePicture()))
+                .collect(Collectors.toList());
+        return new PageImpl<>(items, pageable, likers.getTotalElements());
+    }
+
+    // The row + its uploader only; the likes / comments collections stay unloaded
+    private CourseContent findContent(Long contentId) {
+        return contentRepository.findById(contentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Content not found: " + contentId));
+    }
+
+    private User findUser(String userEmail) {
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userEmail));
+    }
+
+    @Override
+    @Transactional
     public CommentResponseDTO addComment(Long contentId, String text, String userEmail) {
         CourseContent content = contentRepository.findById(contentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Content not found: " + contentId));
@@ -74,6 +206,12 @@ public class InteractionServiceImpl implements InteractionService {
         comment.setCourseContent(content);
 
         Comment saved = commentRepository.save(comment);
+        contentRepository.adjustCommentCount(contentId, 1);
+        contentCounterCache.evict(contentId); // ✅ REDIS: Only this item's counters change
+        uploaderTotalsCache.evict(content.getUser().getEmail());
+        contentVersions.feedChanged();
+        contentVersions.commentsChanged(contentId);
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId, ContentChangedEvent.Type.COMMENTED, user.getId()));
 
         // Trigger Notification (COMMENT)
         if (!content.getUser().getId().equals(user.getId())) {
@@ -85,27 +223,242 @@ public class InteractionServiceImpl implements InteractionService {
             );
         }
 
-        // Map to DTO
+        // The cached first page is keyed by the comments version bumped above, so the next reader loads a fresh one
+        return toDto(new CommentRow(saved.getId(), saved.getText(), saved.getCreatedAt(),
+                user.getName(), user.getEmail(), user.getProfilePicture()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    // Reading comments does NOT need to clear the cache
+    public CursorPageResponseDTO<CommentResponseDTO> getComments(Long contentId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        // Hot path: the first page comes from the cached head (HEAD_SIZE + 1 newest), trimmed to the requested size
+        if (after == null && pageSize <= CommentPageCache.HEAD_SIZE) {
+            List<CommentResponseDTO> head = commentPageCache.getHead(contentId, () -> loadComments(contentId, null,
+                    CommentPageCache.HEAD_SIZE + 1));
+            return toSlice(head.subList(0, Math.min(head.size(), pageSize + 1)), pageSize);
+        }
+        return toSlice(loadComments(contentId, after, pageSize + 1), pageSize);
+    }
+
+    // One query: comments + author columns, newest first (limit = page size + 1 to detect a next page)
+    private List<CommentResponseDTO> loadComments(Long contentId, FeedCursor after, int limit) {
+        List<CommentRow> rows = (after == null)
+                ? commentRepository.findCommentRowsHead(contentId, PageRequest.of(0, limit))
+                : commentRepository.findCommentRowsAfter(contentId, after.getUploadDate(), after.getId(),
+                PageRequest.of(0, limit));
+        return rows.stream().map(this::toDto).collect(Collectors.toList());
+    }
+
+    private CursorPageResponseDTO<CommentResponseDTO> toSlice(List<CommentResponseDTO> comments, int size) {
+        boolean hasNext = comments.size() > size;
+        List<CommentResponseDTO> slice = hasNext ? List.copyOf(comments.subList(0, size)) : List.copyOf(comments);
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponseDTO last = slice.get(slice.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode(); // same (time, id) cursor as the feed
+        }
+        return new CursorPageResponseDTO<>(slice, nextCursor, hasNext);
+    }
+
+    private CommentResponseDTO toDto(CommentRow row) {
         CommentResponseDTO dto = new CommentResponseDTO();
-        dto.setId(saved.getId());
-        dto.setText(saved.getText());
-        dto.setUsername(user.getName() != null ? user.getName() : user.getEmail());
-        dto.setUserAvatar(user.getProfilePicture());
-        dto.setCreatedAt(saved.getCreatedAt());
+        dto.setId(row.getId());
+        dto.setText(row.getText());
+        dto.setUsername(row.getAuthorName() != null ? row.getAuthorName() : row.getAuthorEmail());
+        dto.setUserAvatar(row.getAuthorAvatar());
+        dto.setCreatedAt(row.getCreatedAt());
         return dto;
     }
 
+    // A batched comment waiting for its generated ID; 'result' is filled in once it is inserted
+    private record PendingComment(CourseContent content, String text, LocalDateTime createdAt,
+                                  InteractionResultDTO result) {
+    }
+
     @Override
-    // Reading comments does NOT need to clear the cache
-    public List<CommentResponseDTO> getComments(Long contentId) {
-        return commentRepository.findByCourseContentIdOrderByCreatedAtDesc(contentId).stream().map(c -> {
-            CommentResponseDTO dto = new CommentResponseDTO();
-            dto.setId(c.getId());
-            dto.setText(c.getText());
-            dto.setUsername(c.getUser().getName() != null ? c.getUser().getName() : c.getUser().getEmail());
-            dto.setUserAvatar(c.getUser().getProfilePicture());
-            dto.setCreatedAt(c.getCreatedAt());
-            return dto;
-        }).collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+    @Transactional
+    public List<InteractionResultDTO> applyBatch(List<InteractionOperation> operations, String userEmail) {
+        if (operations == null || operations.isEmpty()) {
+            return List.of();
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new InvalidBatchException("A batch can hold at most " + MAX_BATCH_OPERATIONS + " operations");
+        }
+        User user = findUser(userEmail);
+
+        // Every item and the user's current likes on them: two queries for the whole batch
+        Set<Long> contentIds = operations.stream()
+                .filter(Objects::nonNull)
+                .map(InteractionOperation::getContentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, CourseContent> contents = contentIds.isEmpty() ? Map.of()
+                : contentRepository.findAllById(contentIds).stream()
+                .collect(Collectors.toMap(CourseContent::getId, Function.identity()));
+        Set<Long> committedLikes = contents.isEmpty() ? Set.of()
+                : new HashSet<>(contentRepository.findLikedContentIds(userEmail, contents.keySet()));
+
+        // Replay in order against in-memory like state; only the net change per item is written below
+        Map<Long, Boolean> initialLikes = new HashMap<>();
+        Map<Long, Boolean> finalLikes = new LinkedHashMap<>();
+        List<PendingComment> comments = new ArrayList<>();
+        List<InteractionResultDTO> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            InteractionOperation op = operations.get(i);
+            Long contentId = (op != null) ? op.getContentId() : null;
+            CourseContent content = (contentId != null) ? contents.get(contentId) : null;
+            if (op == null || op.getType() == null) {
+                results.add(failed(i, contentId, "Operation type is required"));
+            } else if (content == null) {
+                results.add(failed(i, contentId, "Content not found: " + contentId));
+            } else if (op.getType() == InteractionOperation.Type.COMMENT) {
+                if (op.getText() == null || op.getText().isBlank()) {
+                    results.add(failed(i, contentId, "Comment text is required"));
+                } else {
+                    InteractionResultDTO result = new InteractionResultDTO(i, contentId, InteractionResultDTO.Status.APPLIED, null, null);
+                    comments.add(new PendingComment(content, op.getText(), LocalDateTime.now(), result));
+                    results.add(result);
+                }
+            } else {
+                boolean current = finalLikes.computeIfAbsent(contentId, id -> {
+                    boolean initial = likeWriteBuffer.isEnabled()
+                            ? likeWriteBuffer.bufferedState(id, userEmail).orElse(committedLikes.contains(id))
+                            : committedLikes.contains(id);
+                    initialLikes.put(id, initial);
+                    return initial;
+                });
+                boolean target = switch (op.getType()) {
+                    case LIKE -> true;
+                    case UNLIKE -> false;
+                    default -> !current;
+                };
+                finalLikes.put(contentId, target);
+                results.add(new InteractionResultDTO(i, contentId,
+                        target == current ? InteractionResultDTO.Status.UNCHANGED : InteractionResultDTO.Status.APPLIED,
+                        null, null));
+            }
+        }
+
+        List<CourseContent> toLike = new ArrayList<>();
+        List<CourseContent> toUnlike = new ArrayList<>();
+        finalLikes.forEach((id, state) -> {
+            if (!state.equals(initialLikes.get(id))) {
+                (state ? toLike : toUnlike).add(contents.get(id));
+            }
+        });
+
+        List<CourseContent> liked = List.of();
+        List<CourseContent> unliked = List.of();
+        if (likeWriteBuffer.isEnabled()) {
+            // The buffer's own flush writes these (with counters, notifications and events) - but only if the
+            // rest of the batch commits, otherwise a failed comment insert would still leave the likes applied
+            AfterCommit.run(() -> {
+                toLike.forEach(c -> likeWriteBuffer.record(c.getId(), user.getId(), userEmail, true, committedLikes.contains(c.getId())));
+                toUnlike.forEach(c -> likeWriteBuffer.record(c.getId(), user.getId(), userEmail, false, committedLikes.contains(c.getId())));
+            });
+        } else {
+            liked = changedLikes(toLike, INSERT_LIKE, user.getId());
+            unliked = changedLikes(toUnlike, DELETE_LIKE, user.getId());
+        }
+        insertComments(comments, user);
+
+        // One counter UPDATE per touched item, sent as a single JDBC batch
+        Map<Long, int[]> counterDeltas = new LinkedHashMap<>(); // id -> {likes, comments}
+        liked.forEach(c -> counterDeltas.computeIfAbsent(c.getId(), id -> new int[2])[0]++);
+        unliked.forEach(c -> counterDeltas.computeIfAbsent(c.getId(), id -> new int[2])[0]--);
+        comments.forEach(c -> counterDeltas.computeIfAbsent(c.content().getId(), id -> new int[2])[1]++);
+        List<Object[]> counterArgs = counterDeltas.entrySet().stream()
+                .filter(e -> e.getValue()[0] != 0 || e.getValue()[1] != 0)
+                .map(e -> new Object[]{e.getValue()[0], e.getValue()[1], e.getKey()})
+                .collect(Collectors.toList());
+        if (!counterArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADJUST_COUNTERS, counterArgs);
+        }
+
+        // One notification write for the whole batch
+        List<NotificationRequest> notifications = new ArrayList<>();
+        liked.stream().filter(c -> c.getUser() != null)
+                .forEach(c -> notifications.add(new NotificationRequest(c.getUser(), user, c, NotificationType.LIKE)));
+        comments.stream().filter(c -> c.content().getUser() != null)
+                .forEach(c -> notifications.add(new NotificationRequest(c.content().getUser(), user, c.content(), NotificationType.COMMENT)));
+        if (!notifications.isEmpty()) {
+            notificationService.createNotifications(notifications);
+        }
+
+        liked.forEach(c -> eventPublisher.publishEvent(new ContentChangedEvent(c.getId(), ContentChangedEvent.Type.LIKED, user.getId())));
+        unliked.forEach(c -> eventPublisher.publishEvent(new ContentChangedEvent(c.getId(), ContentChangedEvent.Type.UNLIKED, user.getId())));
+        comments.forEach(c -> eventPublisher.publishEvent(new ContentChangedEvent(c.content().getId(), ContentChangedEvent.Type.COMMENTED, user.getId())));
+
+        // ✅ REDIS: one invalidation pass after commit - each touched key once, one feed version bump
+        counterDeltas.keySet().forEach(contentCounterCache::evict);
+        counterDeltas.keySet().stream()
+                .map(contents::get)
+                .filter(c -> c.getUser() != null)
+                .map(c -> c.getUser().getEmail())
+                .distinct()
+                .forEach(uploaderTotalsCache::evict);
+        Set<Long> commented = comments.stream().map(c -> c.content().getId()).collect(Collectors.toCollection(LinkedHashSet::new));
+        commented.forEach(contentVersions::commentsChanged); // also retires the cached first comment page
+        if (!counterDeltas.isEmpty() || !toLike.isEmpty() || !toUnlike.isEmpty()) {
+            contentVersions.feedChanged();
+        }
+        return results;
+    }
+
+    private static InteractionResultDTO failed(int index, Long contentId, String error) {
+        return new InteractionResultDTO(index, contentId, InteractionResultDTO.Status.FAILED, error, null);
+    }
+
+    // One JDBC batch; returns the items whose statement really touched a row (per-statement update counts)
+    private List<CourseContent> changedLikes(List<CourseContent> targets, String sql, Long userId) {
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql,
+                targets.stream().map(c -> new Object[]{c.getId(), userId}).collect(Collectors.toList()));
+        List<CourseContent> changed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                changed.add(targets.get(i));
+            }
+        }
+        return changed;
+    }
+
+    // One JDBC batch for all new comments; the generated IDs come back in statement order
+    private void insertComments(List<PendingComment> comments, User user) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_COMMENT, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingComment comment = comments.get(i);
+                        ps.setString(1, comment.text());
+                        ps.setTimestamp(2, Timestamp.valueOf(comment.createdAt()));
+                        ps.setLong(3, user.getId());
+                        ps.setLong(4, comment.content().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return comments.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < comments.size(); i++) {
+            PendingComment comment = comments.get(i);
+            Long id = ((Number) generated.get(i).values().iterator().next()).longValue();
+            comment.result().setComment(toDto(new CommentRow(id, comment.text(), comment.createdAt(),
+                    user.getName(), user.getEmail(), user.getProfilePicture())));
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.model.CourseContent;
+import com.silverline.task.coursecontent.model.NotificationType;
+import com.silverline.task.coursecontent.model.User;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.service.NotificationService;
+import com.silverline.task.coursecontent.service.NotificationService.NotificationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for likes. A click only records the user's intended state in memory; a scheduled flush
+ * writes all intents in batched INSERT IGNORE / DELETE statements, applies the counter deltas per item and
+ * creates the notifications, all in one transaction.
+ * <p>
+ * Coalescing: one entry per (item, user) holding the state before the first click ("baseline") and the latest
+ * intent. Like-unlike-like within a flush interval is one write; like-unlike is none at all.
+ * Reads see pending intents through {@link #likedOverrides} and {@link #likeDelta}, including the ones being
+ * flushed right now, until the counter caches have been evicted. The buffer drains on shutdown, waiting for
+ * a batch still being written and retrying failed ones (bounded by app.likes.write-behind.drain-timeout).
+ * <p>
+ * The buffer is per node: other nodes see a click once it is flushed (one flush interval).
+ * Metrics: likes.buffer.pending (gauge), likes.buffer.flushed{result=applied|coalesced}.
+ */
+@Component
+public class LikeWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeWriteBuffer.class);
+
+    private static final String INSERT_LIKE = "INSERT IGNORE INTO content_likes (content_id, user_id) VALUES (?, ?)";
+    private static final String DELETE_LIKE = "DELETE FROM content_likes WHERE content_id = ? AND user_id = ?";
+    private static final String ADJUST_LIKE_COUNT = "UPDATE course_contents SET like_count = like_count + ? WHERE id = ?";
+
+    // Drain retry backoff: doubles from the first value up to the cap, bounded overall by drainTimeout
+    private static final long DRAIN_BACKOFF_MIN_MS = 20;
+    private static final long DRAIN_BACKOFF_MAX_MS = 1_000;
+
+    // Keyed by email so a viewer's overrides are plain lookups; userId is kept for the flush
+    public record LikeKey(Long contentId, String email) {
+    }
+
+    private record PendingLike(Long contentId, Long userId, String email, boolean baseline, boolean liked) {
+        int delta() {
+            return (liked ? 1 : 0) - (baseline ? 1 : 0);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseContentRepository contentRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ContentCounterCache contentCounterCache;
+    private final UploaderTotalsCache uploaderTotalsCache;
+    private final ContentVersions contentVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration drainTimeout;
+
+    // Mutated only under 'this'; ConcurrentHashMaps so the read overlays never block on a flush
+    private final Map<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+    private final Map<LikeKey, PendingLike> inFlight = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> deltas = new ConcurrentHashMap<>();
+
+    private final Counter applied;
+    private final Counter coalesced;
+
+    public LikeWriteBuffer(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           CourseContentRepository contentRepository,
+                           UserRepository userRepository,
+                           NotificationService notificationService,
+                           ContentCounterCache contentCounterCache,
+                           UploaderTotalsCache uploaderTotalsCache,
+                           ContentVersions contentVersions,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.likes.write-behind.enabled:true}") boolean enabled,
+                           @Value("${app.likes.write-behind.batch-size:1000}") int batchSize,
+                           @Value("${app.likes.write-behind.drain-timeout:PT30S}") Duration drainTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.contentRepository = contentRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.contentCounterCache = contentCounterCache;
+        this.uploaderTotalsCache = uploaderTotalsCache;
+        this.contentVersions = contentVersions;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.drainTimeout = drainTimeout;
+        meterRegistry.gaugeMapSize("likes.buffer.pending", List.of(), pending);
+        this.applied = meterRegistry.counter("likes.buffer.flushed", "result", "applied");
+        this.coalesced = meterRegistry.counter("likes.buffer.flushed", "result", "coalesced");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // The user's like state as far as this node knows without the database (pending or being flushed)
+    public Optional<Boolean> bufferedState(Long contentId, String email) {
+        LikeKey key = new LikeKey(contentId, email);
+        PendingLike entry = pending.getOrDefault(key, inFlight.get(key));
+        return Optional.ofNullable(entry).map(PendingLike::liked);
+    }
+
+    // Records the intended state. 'dbState' is the committed state, read by the caller outside the lock.
+    public synchronized void record(Long contentId, Long userId, String email, boolean liked, boolean dbState) {
+        LikeKey key = new LikeKey(contentId, email);
+        PendingLike previous = pending.get(key);
+        PendingLike flushing = inFlight.get(key);
+        boolean baseline = (previous != null) ? previous.baseline() : (flushing != null) ? flushing.liked() : dbState;
+
+        if (previous != null) {
+            addDelta(contentId, -previous.delta());
+        }
+        if (liked == baseline) {
+            pending.remove(key); // toggled back: nothing to write
+            if (previous != null) {
+                coalesced.increment();
+            }
+            return;
+        }
+        PendingLike entry = new PendingLike(contentId, userId, email, baseline, liked);
+        pending.put(key, entry);
+        addDelta(contentId, entry.delta());
+    }
+
+    // Viewer's pending like state for the given items (only items with a pending intent are present)
+    public Map<Long, Boolean> likedOverrides(String email, Collection<Long> contentIds) {
+        if (email == null || (pending.isEmpty() && inFlight.isEmpty())) {
+            return Map.of();
+        }
+        Map<Long, Boolean> overrides = new HashMap<>();
+        for (Long id : contentIds) {
+            bufferedState(id, email).ifPresent(liked -> overrides.put(id, liked));
+        }
+        return overrides;
+    }
+
+    // Net like-count change not yet visible in the committed counters
+    public int likeDelta(Long contentId) {
+        return deltas.getOrDefault(contentId, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.write-behind.flush-interval:PT1S}")
+    public void flush() {
+        while (flushBatch() == batchSize) {
+            // keep going while full batches are waiting
+        }
+    }
+
+    // Shutdown: keeps flushing until nothing is pending or in flight. A batch another thread is still writing
+    // (the scheduler) and a failed attempt both mean "try again" after a bounded backoff, up to drainTimeout.
+    @PreDestroy
+    public void drain() {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        long backoffMs = DRAIN_BACKOFF_MIN_MS;
+        while (true) {
+            flush();
+            if (pending.isEmpty() && inFlight.isEmpty()) {
+                return;
+            }
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(backoffMs, remainingMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoffMs = Math.min(backoffMs * 2, DRAIN_BACKOFF_MAX_MS);
+        }
+        log.error("Like buffer shut down with {} unflushed intents ({} still in flight)", pending.size(), inFlight.size());
+    }
+
+    // Flushes up to batchSize intents; returns how many were taken
+    int flushBatch() {
+        List<PendingLike> batch = takeBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            Set<String> owners = transactionTemplate.execute(status -> write(batch));
+            // Committed: drop stale counters first, only then stop overlaying the deltas
+            batch.stream().map(PendingLike::contentId).distinct().forEach(contentCounterCache::evict);
+            owners.forEach(uploaderTotalsCache::evict);
+            contentVersions.feedChanged();
+            complete(batch, false);
+            applied.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Like buffer flush of {} intents failed, will retry: {}", batch.size(), e.getMessage());
+            complete(batch, true);
+            return 0; // stop this round; the next tick retries
+        }
+        return batch.size();
+    }
+
+    private synchronized List<PendingLike> takeBatch() {
+        if (!inFlight.isEmpty()) {
+            return List.of(); // previous batch still being written (shutdown vs scheduler)
+        }
+        List<PendingLike> batch = new ArrayList<>();
+        for (PendingLike entry : pending.values()) {
+            if (batch.size() == batchSize) {
+                break;
+            }
+            batch.add(entry);
+        }
+        batch.forEach(entry -> {
+            LikeKey key = new LikeKey(entry.contentId(), entry.email());
+            pending.remove(key);
+            inFlight.put(key, entry);
+        });
+        return batch;
+    }
+
+    private synchronized void complete(List<PendingLike> batch, boolean failed) {
+        for (PendingLike entry : batch) {
+            LikeKey key = new LikeKey(entry.contentId(), entry.email());
+            inFlight.remove(key);
+            if (!failed) {
+                addDelta(entry.contentId(), -entry.delta());
+            } else {
+                PendingLike newer = pending.get(key);
+                if (newer == null) {
+                    pending.put(key, entry); // retry next tick, delta stays
+                } else {
+                    // a newer click was based on our (unwritten) state: merge back to the original baseline
+                    addDelta(entry.contentId(), -entry.delta() - newer.delta());
+                    pending.remove(key);
+                    if (newer.liked() != entry.baseline()) {
+                        PendingLike merged = new PendingLike(entry.contentId(), entry.userId(), entry.email(),
+                                entry.baseline(), newer.liked());
+                        pending.put(key, merged);
+                        addDelta(entry.contentId(), merged.delta());
+                    }
+                }
+            }
+        }
+    }
+
+    // One transaction: batched join-table writes, per-item counter deltas from the REAL row counts,
+    // notifications for likes that actually happened, content events (change log joins this transaction)
+    private Set<String> write(List<PendingLike> batch) {
+        List<PendingLike> likes = batch.stream().filter(PendingLike::liked).toList();
+        List<PendingLike> unlikes = batch.stream().filter(p -> !p.liked()).toList();
+        List<PendingLike> liked = changed(likes, INSERT_LIKE);
+        List<PendingLike> unliked = changed(unlikes, DELETE_LIKE);
+
+        Map<Long, Integer> counterDeltas = new LinkedHashMap<>();
+        liked.forEach(p -> counterDeltas.merge(p.contentId(), 1, Integer::sum));
+        unliked.forEach(p -> counterDeltas.merge(p.contentId(), -1, Integer::sum));
+        List<Object[]> counterArgs = counterDeltas.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .collect(Collectors.toList());
+        if (!counterArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADJUST_LIKE_COUNT, counterArgs);
+        }
+
+        Set<Long> contentIds = new HashSet<>(counterDeltas.keySet());
+        Map<Long, CourseContent> contents = contentRepository.findAllById(contentIds).stream()
+                .collect(Collectors.toMap(CourseContent::getId, Function.identity()));
+        Set<Long> likerIds = liked.stream().map(PendingLike::userId).collect(Collectors.toSet());
+        Map<Long, User> likers = userRepository.findAllById(likerIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // One notification write for the whole batch
+        List<NotificationRequest> notifications = new ArrayList<>();
+        for (PendingLike p : liked) {
+            CourseContent content = contents.get(p.contentId());
+            User liker = likers.get(p.userId());
+            if (content != null && liker != null && content.getUser() != null) {
+                notifications.add(new NotificationRequest(content.getUser(), liker, content, NotificationType.LIKE));
+            }
+            eventPublisher.publishEvent(new ContentChangedEvent(p.contentId(), ContentChangedEvent.Type.LIKED, p.userId()));
+        }
+        if (!notifications.isEmpty()) {
+            notificationService.createNotifications(notifications);
+        }
+        for (PendingLike p : unliked) {
+            eventPublisher.publishEvent(new ContentChangedEvent(p.contentId(), ContentChangedEvent.Type.UNLIKED, p.userId()));
+        }
+
+        return contents.values().stream()
+                .filter(c -> c.getUser() != null)
+                .map(c -> c.getUser().getEmail())
+                .collect(Collectors.toSet());
+    }
+
+    // Runs one JDBC batch; returns the intents whose statement really touched a row.
+    // Relies on per-statement update counts (Connector/J without rewriteBatchedStatements)
+    private List<PendingLike> changed(List<PendingLike> intents, String sql) {
+        if (intents.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql,
+                intents.stream().map(p -> new Object[]{p.contentId(), p.userId()}).collect(Collectors.toList()));
+        List<PendingLike> changed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                changed.add(intents.get(i));
+            }
+        }
+        return changed;
+    }
+
+    private void addDelta(Long contentId, int delta) {
+        if (delta != 0) {
+            deltas.merge(contentId, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.silverline.task.coursecontent.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,8 +18,27 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public void createNotification(User recipient, User actor, CourseContent content, NotificationType type) {
+        Notification notification = build(recipient, actor, content, type);
+        if (notification != null) {
+            notificationRepository.save(notification);
+        }
+    }
+
+    @Override
+    public void createNotifications(List<NotificationRequest> requests) {
+        List<Notification> notifications = requests.stream()
+                .map(r -> build(r.recipient(), r.actor(), r.content(), r.type()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (!notifications.isEmpty()) {
+            notificationRepository.saveAll(notifications);
+        }
+    }
+
+    // Returns null when there is nobody else to notify
+    private Notification build(User recipient, User actor, CourseContent content, NotificationType type) {
         // Prevent notifying yourself
-        if (recipient.getId().equals(actor.getId())) return;
+        if (recipient.getId().equals(actor.getId())) return null;
 
         Notification notification = new Notification();
         notification.setRecipient(recipient);
@@ -31,8 +51,7 @@ public class NotificationServiceImpl implements NotificationService {
         } else if (type == NotificationType.COMMENT) {
             notification.setMessage(actor.getName() + " commented on: " + content.getFileName());
         }
-
-        notificationRepository.save(notification);
+        return notification;
     }
 
     @Override
@@ -0,0 +1,301 @@
+package com.silverline.task.coursecontent.trending;
+
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Engagement score with exponential time decay, kept in a sorted in-memory ranking.
+ * Each signal is stored as weight * e^(lambda * (t - epoch)) instead of decaying every score
+ * as time passes. Because all scores decay at the same rate, the order never changes between
+ * events, so a like or comment is an O(log n) update and a trending page is a walk over the first k entries.
+ * <p>
+ * Likes seen live are remembered per user with the time they were given, so an unlike takes back exactly
+ * what that like added. Engagement only known as a count (from the database) is dated at upload time.
+ * {@link #rebuild} re-reads those counts - picking up engagement from other nodes - without losing the
+ * timing of the signals this node saw live.
+ */
+@Component
+public class TrendingIndex {
+
+    // Re-base before e^(lambda * t) gets anywhere near double overflow (~e^709)
+    private static final double MAX_EXPONENT = 500;
+
+    // Live likes older than this many half-lives (< 1% of their weight) are folded back into the counts on rebuild
+    private static final int LIVE_LIKE_HORIZON_HALF_LIVES = 7;
+
+    private static final Comparator<Ranked> BY_SCORE = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::contentId, Comparator.reverseOrder());
+
+    public enum Signal {
+        UPLOAD(1.0),  // fresh items get a head start
+        LIKE(1.0),
+        UNLIKE(0.0),  // takes back the user's LIKE at the weight it had when it was given
+        COMMENT(2.0);
+
+        private final double weight;
+
+        Signal(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record TrendingPage(long total, List<Long> contentIds) {
+    }
+
+    private record Ranked(Long contentId, double score) {
+    }
+
+    // Everything behind one item's score; 'score' and 'liveCommentScore' are relative to the current epoch
+    private static final class Entry {
+        private final Instant seededAt;                          // when count-only engagement is dated
+        private int seedLikes;                                   // likes known only as a count
+        private final Map<Long, Instant> liveLikes = new HashMap<>(); // user -> when this node saw the like
+        private int liveComments;
+        private double liveCommentScore;
+        private double score;
+
+        private Entry(Instant seededAt) {
+            this.seededAt = seededAt;
+        }
+    }
+
+    private final Duration halfLife;
+    private final double lambdaPerSecond;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Instant epoch = Instant.now();
+    private Map<Long, Entry> entries = new HashMap<>();
+    private TreeSet<Ranked> ranking = new TreeSet<>(BY_SCORE);
+    private Instant rebuildStartedAt;     // non-null while a rebuild is loading
+    private Set<Long> removedDuringRebuild;
+
+    public TrendingIndex(@Value("${app.trending.half-life:PT24H}") Duration halfLife) {
+        this.halfLife = halfLife;
+        this.lambdaPerSecond = Math.log(2) / halfLife.toSeconds();
+    }
+
+    // 'userId' identifies the like an UNLIKE takes back; other signals ignore it
+    public void record(Long contentId, Long userId, Signal signal, Instant at) {
+        lock.writeLock().lock();
+        try {
+            if (exponent(at) > MAX_EXPONENT) {
+                rebase(at);
+            }
+            Entry entry = entries.get(contentId);
+            double change;
+            switch (signal) {
+                case UNLIKE -> {
+                    if (entry == null) {
+                        return; // nothing to take away from an item we never saw
+                    }
+                    Instant likedAt = entry.liveLikes.remove(userId);
+                    if (likedAt != null) {
+                        change = -Signal.LIKE.weight * growth(likedAt);
+                    } else if (entry.seedLikes > 0) {
+                        entry.seedLikes--; // a like from the counts, dated at upload like the rest of them
+                        change = -Signal.LIKE.weight * growth(entry.seededAt);
+                    } else {
+                        return;
+                    }
+                }
+                case LIKE -> {
+                    if (entry != null && entry.liveLikes.containsKey(userId)) {
+                        return; // already counted
+                    }
+                    entry = (entry != null) ? entry : new Entry(at);
+                    entry.liveLikes.put(userId, at);
+                    change = Signal.LIKE.weight * growth(at);
+                }
+                case COMMENT -> {
+                    entry = (entry != null) ? entry : new Entry(at);
+                    change = Signal.COMMENT.weight * growth(at);
+                    entry.liveComments++;
+                    entry.liveCommentScore += change;
+                }
+                default -> {
+                    entry = (entry != null) ? entry : new Entry(at);
+                    change = signal.weight * growth(at);
+                }
+            }
+            update(contentId, entry, Math.max(0, entry.score + change));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long contentId) {
+        lock.writeLock().lock();
+        try {
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(contentId);
+            }
+            Entry old = entries.remove(contentId);
+            if (old != null) {
+                ranking.remove(new Ranked(contentId, old.score));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Call before reading the rows for rebuild, so items created or deleted meanwhile are not lost or revived
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildStartedAt = Instant.now();
+            removedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // (Re)seeds from the database counters. Likes carry no timestamp there, so engagement this node did not see
+    // live is dated at upload time; live likes and comments keep their own time and are not counted twice.
+    public void rebuild(Collection<ContentFeedRow> rows) {
+        lock.writeLock().lock();
+        try {
+            Instant now = Instant.now();
+            Instant liveLikeHorizon = now.minus(halfLife.multipliedBy(LIVE_LIKE_HORIZON_HALF_LIVES));
+            if (exponent(now) > MAX_EXPONENT) {
+                rebase(now);
+            }
+
+            Map<Long, Entry> rebuilt = new HashMap<>();
+            for (ContentFeedRow row : rows) {
+                if (removedDuringRebuild != null && removedDuringRebuild.contains(row.getId())) {
+                    continue;
+                }
+                Instant uploadedAt = row.getUploadDate() == null
+                        ? now
+                        : row.getUploadDate().atZone(ZoneId.systemDefault()).toInstant();
+                Entry entry = new Entry(uploadedAt);
+                Entry live = entries.get(row.getId());
+                if (live != null) {
+                    live.liveLikes.forEach((userId, likedAt) -> {
+                        if (likedAt.isAfter(liveLikeHorizon)) {
+                            entry.liveLikes.put(userId, likedAt);
+                        }
+                    });
+                    if (live.liveComments <= row.getCommentCount()) {
+                        entry.liveComments = live.liveComments;
+                        entry.liveCommentScore = live.liveCommentScore;
+                    }
+                }
+                entry.seedLikes = Math.max(0, row.getLikeCount() - entry.liveLikes.size());
+                int seedComments = Math.max(0, row.getCommentCount() - entry.liveComments);
+
+                double score = (Signal.UPLOAD.weight
+                        + Signal.LIKE.weight * entry.seedLikes
+                        + Signal.COMMENT.weight * seedComments) * growth(uploadedAt)
+                        + entry.liveCommentScore;
+                for (Instant likedAt : entry.liveLikes.values()) {
+                    score += Signal.LIKE.weight * growth(likedAt);
+                }
+                entry.score = score;
+                rebuilt.put(row.getId(), entry);
+            }
+            // Items that appeared live after the rows were read
+            if (rebuildStartedAt != null) {
+                entries.forEach((id, entry) -> {
+                    if (!rebuilt.containsKey(id) && !entry.seededAt.isBefore(rebuildStartedAt)) {
+                        rebuilt.put(id, entry);
+                    }
+                });
+            }
+
+            TreeSet<Ranked> rebuiltRanking = new TreeSet<>(BY_SCORE);
+            rebuilt.forEach((id, entry) -> rebuiltRanking.add(new Ranked(id, entry.score)));
+            entries = rebuilt;
+            ranking = rebuiltRanking;
+            rebuildStartedAt = null;
+            removedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildStartedAt = null;
+            removedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public TrendingPage page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = ranking.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Ranked::contentId)
+                    .toList();
+            return new TrendingPage(ranking.size(), ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Current (decayed) score, mainly for diagnostics
+    public double score(Long contentId, Instant now) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(contentId);
+            return entry == null ? 0 : entry.score * Math.exp(-exponent(now));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void update(Long contentId, Entry entry, double score) {
+        if (entries.get(contentId) == entry) {
+            ranking.remove(new Ranked(contentId, entry.score));
+        }
+        entry.score = score;
+        entries.put(contentId, entry);
+        ranking.add(new Ranked(contentId, score));
+    }
+
+    private double growth(Instant at) {
+        return Math.exp(exponent(at));
+    }
+
+    private double exponent(Instant at) {
+        return lambdaPerSecond * secondsBetween(epoch, at);
+    }
+
+    private static double secondsBetween(Instant from, Instant to) {
+        return Duration.between(from, to).toMillis() / 1000.0;
+    }
+
+    // Caller holds the write lock. Scaling every score by the same factor keeps the order intact.
+    private void rebase(Instant newEpoch) {
+        double factor = Math.exp(-exponent(newEpoch));
+        TreeSet<Ranked> rebasedRanking = new TreeSet<>(BY_SCORE);
+        entries.forEach((id, entry) -> {
+            entry.score *= factor;
+            entry.liveCommentScore *= factor;
+            rebasedRanking.add(new Ranked(id, entry.score));
+        });
+        epoch = newEpoch;
+        ranking = rebasedRanking;
+    }
+}
@@ -0,0 +1,77 @@
+package com.silverline.task.coursecontent.trending;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds {@link TrendingIndex}: seeded from the counters at startup, then every upload,
+ * like, unlike and comment is applied incrementally (after commit) with the time it happened.
+ * A periodic reseed picks up engagement other nodes saw; the index keeps the real timing of the
+ * signals this node saw live, so reseeding does not flatten recent engagement back to upload time.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingIndexer.class);
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final TrendingIndex index;
+    private final CourseContentRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.trending.reseed-interval:PT15M}", initialDelayString = "${app.trending.reseed-interval:PT15M}")
+    public synchronized void seed() {
+        long start = System.currentTimeMillis();
+        index.beginRebuild();
+        try {
+            List<ContentFeedRow> all = new ArrayList<>();
+            List<ContentFeedRow> batch = repository.findFeedRowsHead(PageRequest.of(0, SEED_BATCH_SIZE));
+            while (!batch.isEmpty()) {
+                all.addAll(batch);
+                if (batch.size() < SEED_BATCH_SIZE) {
+                    break;
+                }
+                ContentFeedRow last = batch.get(batch.size() - 1);
+                batch = repository.findFeedRowsAfter(last.getUploadDate(), last.getId(), PageRequest.of(0, SEED_BATCH_SIZE));
+            }
+
+            index.rebuild(all);
+            log.info("Trending index seeded: {} items in {} ms", all.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.warn("Trending index seed failed, keeping the previous ranking: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        Instant now = Instant.now();
+        Long actorId = event.getActorId();
+        switch (event.getType()) {
+            case CREATED -> index.record(event.getContentId(), actorId, TrendingIndex.Signal.UPLOAD, now);
+            case LIKED -> index.record(event.getContentId(), actorId, TrendingIndex.Signal.LIKE, now);
+            case UNLIKED -> index.record(event.getContentId(), actorId, TrendingIndex.Signal.UNLIKE, now);
+            case COMMENTED -> index.record(event.getContentId(), actorId, TrendingIndex.Signal.COMMENT, now);
+            case DELETED -> index.remove(event.getContentId());
+            default -> {
+                // text updates don't affect engagement
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.repository.projection.ContentCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheValueCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void roundTrip_PreservesTypedValue() {
+        CacheValueCodec codec = codec("contentCounters", mapper.constructType(ContentCounters.class));
+
+        Object decoded = codec.deserialize(codec.serialize(new ContentCounters(7L, 3, 2)));
+
+        assertEquals(new ContentCounters(7L, 3, 2), decoded);
+        assertEquals(1, registry.get("cache.codec.serialized.size").tag("cache", "contentCounters").summary().count());
+    }
+
+    @Test
+    void largePage_IsCompressedAndRestored() {
+        CacheValueCodec codec = codec("contentFeed",
+                mapper.getTypeFactory().constructParametricType(CachedPage.class, CourseContentResponseDTO.class));
+        List<CourseContentResponseDTO> items = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            CourseContentResponseDTO dto = new CourseContentResponseDTO();
+            dto.setId(i);
+            dto.setFileName("lecture-" + i + ".pdf");
+            dto.setFileType("application/pdf");
+            dto.setUploadDate(LocalDateTime.of(2024, 1, 1, 10, 0));
+            dto.setFileUrl("http://localhost:8080/api/content/download/lecture-" + i + ".pdf");
+            items.add(dto);
+        }
+        CachedPage<CourseContentResponseDTO> page = new CachedPage<>(items, 120);
+
+        byte[] bytes = codec.serialize(page);
+
+        assertEquals(1, bytes[2] & 1); // compressed flag
+        assertEquals(page, codec.deserialize(bytes));
+    }
+
+    @Test
+    void nullValue_RoundTrips() {
+        CacheValueCodec codec = codec("uploaderTotals", mapper.constructType(Long.class));
+
+        assertSame(NullValue.INSTANCE, codec.deserialize(codec.serialize(NullValue.INSTANCE)));
+    }
+
+    @Test
+    void foreignOrOldSchemaBytes_DecodeAsMiss() throws Exception {
+        CacheValueCodec codec = codec("contentVersions", mapper.constructType(Long.class));
+        byte[] oldSchema = codec.serialize(42L);
+        oldSchema[1] = (byte) (CacheValueCodec.SCHEMA_VERSION + 1);
+
+        ByteArrayOutputStream jdk = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(jdk)) {
+            out.writeObject(42L);
+        }
+
+        assertNull(codec.deserialize(oldSchema));
+        assertNull(codec.deserialize(jdk.toByteArray()));
+        assertEquals(2, registry.get("cache.codec.rejected").tag("cache", "contentVersions").counter().count());
+    }
+
+    private CacheValueCodec codec(String cacheName, JavaType type) {
+        return new CacheValueCodec(cacheName, mapper, type, true, 512, registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentPageCacheTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final ContentVersions versions = new ContentVersions(cacheManager);
+    private final CommentPageCache cache = new CommentPageCache(cacheManager, versions, new SimpleMeterRegistry());
+
+    @Test
+    void getHead_LoadsOnceThenServesFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getHead(10L, () -> { loads.incrementAndGet(); return List.of(comment(1L)); });
+        List<CommentResponseDTO> second = cache.getHead(10L, () -> { loads.incrementAndGet(); return List.of(); });
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, second.get(0).getId());
+    }
+
+    @Test
+    void getHead_AfterCommentsVersionBump_ReloadsUnderTheNewKey() {
+        cache.getHead(10L, () -> List.of(comment(1L)));
+
+        versions.commentsChanged(10L); // a new comment committed
+
+        List<CommentResponseDTO> head = cache.getHead(10L, () -> List.of(comment(2L), comment(1L)));
+        assertEquals(2L, head.get(0).getId());
+    }
+
+    @Test
+    void getHead_LoaderThatStartedBeforeTheBump_CannotPoisonTheNewVersion() {
+        // A slow reader loads the old head while a comment commits and bumps the version
+        cache.getHead(10L, () -> {
+            versions.commentsChanged(10L);
+            return List.of(comment(1L));
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        List<CommentResponseDTO> head = cache.getHead(10L, () -> { loads.incrementAndGet(); return List.of(comment(2L), comment(1L)); });
+        assertEquals(1, loads.get());
+        assertEquals(2L, head.get(0).getId());
+    }
+
+    private static CommentResponseDTO comment(long id) {
+        CommentResponseDTO dto = new CommentResponseDTO();
+        dto.setId(id);
+        return dto;
+    }
+}
@@ -0,0 +1,151 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.facet.FacetIndex;
+import com.silverline.task.coursecontent.repository.ContentDetailRepository;
+import com.silverline.task.coursecontent.repository.ContentTextRepository;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import com.silverline.task.coursecontent.search.ContentSearchIndex;
+import com.silverline.task.coursecontent.search.SuggestionIndex;
+import com.silverline.task.coursecontent.service.AiSummarizationService;
+import com.silverline.task.coursecontent.service.CourseContentService;
+import com.silverline.task.coursecontent.service.FileStorageService;
+import com.silverline.task.coursecontent.service.FileTextExtractor;
+import com.silverline.task.coursecontent.service.impl.ContentChangeLog;
+import com.silverline.task.coursecontent.service.impl.CourseContentServiceImpl;
+import com.silverline.task.coursecontent.service.impl.LikeWriteBuffer;
+import com.silverline.task.coursecontent.trending.TrendingIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Wires the REAL service + feed cache through Spring (proxies included) and proves repeat requests skip the DB
+@SpringJUnitConfig(ContentFeedCacheIntegrationTest.TestConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // fresh caches + meters per test
+class ContentFeedCacheIntegrationTest {
+
+    @Configuration
+    @Import({ContentFeedCache.class, ContentItemCache.class, CourseContentServiceImpl.class})
+    static class TestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ContentFeedCache.PAGE_CACHE, ContentFeedCache.CURSOR_CACHE,
+                    ContentFeedCache.BODY_CACHE, ContentItemCache.CACHE_NAME);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        // Converts @Value Durations (e.g. app.cache.feed-body.ttl) the way Spring Boot does
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @Autowired private CourseContentService courseContentService;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @MockitoBean private CourseContentRepository repository;
+    @MockitoBean private FileStorageService fileStorageService;
+    @MockitoBean private FileTextExtractor fileTextExtractor;
+    @MockitoBean private AiSummarizationService aiSummarizationService;
+    @MockitoBean private UserRepository userRepository;
+    @MockitoBean private ContentCounterCache contentCounterCache;
+    @MockitoBean private ContentVersions contentVersions;
+    @MockitoBean private UploaderTotalsCache uploaderTotalsCache;
+    @MockitoBean private ContentTextRepository contentTextRepository;
+    @MockitoBean private ContentDetailRepository contentDetailRepository;
+    @MockitoBean private ContentSearchIndex contentSearchIndex;
+    @MockitoBean private SuggestionIndex suggestionIndex;
+    @MockitoBean private TrendingIndex trendingIndex;
+    @MockitoBean private FacetIndex facetIndex;
+    @MockitoBean private ContentChangeLog contentChangeLog;
+    @MockitoBean private LikeWriteBuffer likeWriteBuffer;
+    @MockitoBean private UserIdCache userIdCache;
+
+    @Test
+    void secondIdenticalRequest_IsServedFromCache() {
+        ContentFeedRow row = new ContentFeedRow(1L, "a.pdf", null, "application/pdf", 10L,
+                LocalDateTime.now(), "https://example.com/a.pdf", "Ann", "ann@test.com", null, 0, 0);
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row)));
+
+        Page<CourseContentResponseDTO> first = courseContentService.getAllContent(0, 10, null);
+        Page<CourseContentResponseDTO> second = courseContentService.getAllContent(0, 10, null);
+
+        assertEquals(first.getContent(), second.getContent());
+        verify(repository, times(1)).findFeedRows(any(Pageable.class));
+        verify(repository, never()).findFeedRowsByIdIn(any()); // items were seeded by the page load
+
+        assertEquals(1.0, meterRegistry.get("content.feed.cache.requests")
+                .tag("cache", ContentFeedCache.PAGE_CACHE).tag("result", "miss").counter().count());
+        assertEquals(1.0, meterRegistry.get("content.feed.cache.requests")
+                .tag("cache", ContentFeedCache.PAGE_CACHE).tag("result", "hit").counter().count());
+        assertEquals(1L, meterRegistry.get("content.feed.cache.load").timer().count());
+    }
+
+    @Test
+    void itemFragments_AreSharedAcrossFeedWindows() {
+        ContentFeedRow row = new ContentFeedRow(3L, "c.pdf", null, "application/pdf", 10L,
+                LocalDateTime.now(), "https://example.com/c.pdf", "Ann", "ann@test.com", null, 0, 0);
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row)));
+        when(trendingIndex.page(0, 5)).thenReturn(new TrendingIndex.TrendingPage(1, List.of(3L)));
+
+        courseContentService.getAllContent(0, 10, null);
+        Page<CourseContentResponseDTO> trending = courseContentService.getTrending(0, 5, null);
+
+        assertEquals("c.pdf", trending.getContent().get(0).getFileName());
+        verify(repository, never()).findFeedRowsByIdIn(any());
+        assertEquals(1.0, meterRegistry.get("content.item.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void guestBody_IsSerializedOncePerFeedStructureVersion() {
+        ContentFeedRow row = new ContentFeedRow(2L, "b.pdf", null, "application/pdf", 10L,
+                LocalDateTime.now(), "https://example.com/b.pdf", "Ann", "ann@test.com", null, 0, 0);
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row)));
+        when(contentVersions.feedStructureVersion()).thenReturn(1L);
+        String version = courseContentService.getGuestFeedVersion();
+
+        byte[] first = courseContentService.getAllContentJson(1, 5, version);
+        byte[] second = courseContentService.getAllContentJson(1, 5, version);
+        assertSame(first, second); // same cached bytes, no second serialization
+        verify(contentVersions, never()).feedVersion(); // likes/comments don't re-key guest bodies
+
+        when(contentVersions.feedStructureVersion()).thenReturn(2L); // an upload or delete
+        String newVersion = courseContentService.getGuestFeedVersion();
+        assertNotEquals(version, newVersion);
+        assertNotSame(first, courseContentService.getAllContentJson(1, 5, newVersion));
+    }
+}
@@ -0,0 +1,33 @@
+package com.silverline.task.coursecontent.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentVersionsTest {
+
+    // Caching disabled (CACHE_TYPE=none) -> falls back to an in-process store instead of a fresh version per call
+    private final ContentVersions versions = new ContentVersions(new NoOpCacheManager());
+
+    @Test
+    void version_IsStableUntilDataChanges() {
+        long before = versions.feedVersion();
+        assertEquals(before, versions.feedVersion());
+
+        versions.feedChanged();
+
+        assertNotEquals(before, versions.feedVersion());
+    }
+
+    @Test
+    void perItemVersions_AreIndependent() {
+        long comments1 = versions.commentsVersion(1L);
+        long comments2 = versions.commentsVersion(2L);
+
+        versions.commentsChanged(1L);
+
+        assertNotEquals(comments1, versions.commentsVersion(1L));
+        assertEquals(comments2, versions.commentsVersion(2L));
+    }
+}
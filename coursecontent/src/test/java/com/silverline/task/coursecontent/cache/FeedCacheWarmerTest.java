@@ -0,0 +1,95 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.service.CourseContentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedCacheWarmerTest {
+
+    @Mock
+    private CourseContentService courseContentService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private FeedCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        warmer = new FeedCacheWarmer(courseContentService, new ConcurrentMapCacheManager(), taskScheduler,
+                new SimpleMeterRegistry(), true, 2, 10, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void startup_HoldsReadinessHealthUntilWarm() {
+        when(courseContentService.getGuestFeedVersion()).thenReturn("1.0");
+        assertEquals(Status.OUT_OF_SERVICE, warmer.health().getStatus());
+
+        warmer.onReadinessChanged(ready());
+
+        verify(courseContentService).getAllContent(0, 10, null);
+        verify(courseContentService).getAllContent(1, 10, null);
+        verify(courseContentService).getAllContentJson(1, 10, "1.0");
+        verify(courseContentService).getFeed(null, 10, null);
+        verify(courseContentService).getTrending(0, 10, null);
+
+        assertEquals(Status.UP, warmer.health().getStatus());
+
+        // A later ACCEPTING_TRAFFIC must not start a second round
+        warmer.onReadinessChanged(ready());
+        verify(courseContentService, times(1)).getFeed(null, 10, null);
+    }
+
+    @Test
+    void startup_FailureStillReportsReady() {
+        when(courseContentService.getAllContent(0, 10, null)).thenThrow(new RuntimeException("db down"));
+
+        assertDoesNotThrow(() -> warmer.onReadinessChanged(ready()));
+
+        assertEquals(Status.UP, warmer.health().getStatus());
+    }
+
+    @Test
+    void withoutRealCache_DoesNothingAndReportsUp() {
+        FeedCacheWarmer noCache = new FeedCacheWarmer(courseContentService, new NoOpCacheManager(), taskScheduler,
+                new SimpleMeterRegistry(), true, 2, 10, Duration.ofSeconds(2));
+
+        assertEquals(Status.UP, noCache.health().getStatus());
+        noCache.onReadinessChanged(ready());
+        noCache.onContentChanged(new ContentChangedEvent(1L, ContentChangedEvent.Type.CREATED, 1L));
+
+        verifyNoInteractions(courseContentService, taskScheduler);
+    }
+
+    @Test
+    void structuralChanges_AreDebouncedIntoOneRun() {
+        warmer.onContentChanged(new ContentChangedEvent(1L, ContentChangedEvent.Type.CREATED, 1L));
+        warmer.onContentChanged(new ContentChangedEvent(2L, ContentChangedEvent.Type.DELETED, null));
+        warmer.onContentChanged(new ContentChangedEvent(3L, ContentChangedEvent.Type.LIKED, 1L));
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private AvailabilityChangeEvent<ReadinessState> ready() {
+        return new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
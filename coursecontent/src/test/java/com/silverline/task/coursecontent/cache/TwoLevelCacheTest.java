@@ -0,0 +1,116 @@
+package com.silverline.task.coursecontent.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache shared;
+    private CacheInvalidationPublisher publisher;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        shared = new ConcurrentMapCache("contentFeed"); // stands in for Redis
+        publisher = mock(CacheInvalidationPublisher.class);
+        cache = new TwoLevelCache("contentFeed", Caffeine.newBuilder().maximumSize(10).build(), shared, publisher);
+    }
+
+    @Test
+    void get_MissInL1_ReadsThroughAndKeepsLocalCopy() {
+        shared.put("0-10", "page");
+
+        assertEquals("page", cache.get("0-10").get());
+
+        // L2 changes behind our back are NOT seen until invalidated: L1 served the second read
+        shared.put("0-10", "other");
+        assertEquals("page", cache.get("0-10").get());
+    }
+
+    @Test
+    void put_WritesBothTiersAndTellsOtherNodesToDropTheirCopy() {
+        cache.put("0-10", "page");
+
+        assertEquals("page", shared.get("0-10").get());
+        verify(publisher).publishEvict("contentFeed", "0-10");
+    }
+
+    @Test
+    void evict_ClearsBothTiersAndNotifiesOtherNodes() {
+        cache.put("0-10", "page");
+        clearInvocations(publisher); // put broadcasts too; only the evict's message is checked here
+
+        cache.evict("0-10");
+
+        assertNull(cache.get("0-10"));
+        assertNull(shared.get("0-10"));
+        verify(publisher).publishEvict("contentFeed", "0-10");
+    }
+
+    @Test
+    void evictLocal_DropsOnlyL1SoNextReadComesFromL2() {
+        cache.put(42L, "old");
+        shared.put(42L, "new"); // another node wrote a fresh value
+
+        cache.evictLocal("42");
+
+        assertEquals("new", cache.get(42L).get());
+    }
+
+    @Test
+    void getWithLoader_CachesLoadedValueInBothTiers() {
+        assertEquals("loaded", cache.get("k", () -> "loaded"));
+        assertEquals("loaded", cache.get("k", () -> "not called"));
+        assertEquals("loaded", shared.get("k").get());
+    }
+
+    @Test
+    void getAll_ServesL1AndReadsOnlyTheRestFromL2() {
+        cache.put(1L, "one");          // in L1
+        shared.put(2L, "two");         // only in L2
+        shared.put(1L, "stale");       // L1 wins
+
+        Map<Object, Object> found = cache.getAll(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, "one", 2L, "two"), found);
+        shared.evict(2L);
+        assertEquals("two", cache.get(2L).get()); // copied into L1
+    }
+
+    @Test
+    void getAll_OnRedis_UsesOneMgetWithRedisKeysAndDecodesValues() {
+        RedisCache redis = mock(RedisCache.class);
+        when(redis.getCacheConfiguration()).thenReturn(RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.java())));
+        List<List<byte[]>> calls = new ArrayList<>();
+        TwoLevelCache twoLevel = new TwoLevelCache("contentItems", Caffeine.newBuilder().maximumSize(10).build(),
+                redis, publisher, keys -> {
+                    calls.add(keys);
+                    return Arrays.asList(RedisSerializer.java().serialize("seven"), null);
+                });
+
+        Map<Object, Object> found = twoLevel.getAll(List.of(7L, 8L));
+
+        assertEquals(Map.of(7L, "seven"), found);
+        assertEquals(1, calls.size());
+        assertEquals(List.of("contentItems::7", "contentItems::8"),
+                calls.get(0).stream().map(key -> new String(key, StandardCharsets.UTF_8)).toList());
+        verify(redis, never()).get(any());
+    }
+}
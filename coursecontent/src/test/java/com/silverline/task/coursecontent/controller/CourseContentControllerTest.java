@@ -1,8 +1,17 @@
 package com.silverline.task.coursecontent.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.controller.dto.response.BrowseResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FacetCountDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FeedChangesResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.MyContentsSummaryDTO;
+import com.silverline.task.coursecontent.controller.dto.response.SuggestionResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.SummaryResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.UploadResponseDTO;
+import com.silverline.task.coursecontent.service.ContentExportService;
 import com.silverline.task.coursecontent.service.CourseContentService;
 import com.silverline.task.coursecontent.security.JwtService;
 import org.junit.jupiter.api.Test;
@@ -16,13 +25,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +55,12 @@ class CourseContentControllerTest {
     @MockitoBean
     private CourseContentService courseContentService;
 
+    @MockitoBean
+    private ContentExportService contentExportService;
+
+    @MockitoBean
+    private ContentVersions contentVersions;
+
     @MockitoBean
     private JwtService jwtService;
 
@@ -57,6 +80,196 @@ class CourseContentControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getAllContent_UnchangedFeed_Returns304WithoutCallingService() throws Exception {
+        when(contentVersions.feedVersion()).thenReturn(42L);
+        when(courseContentService.getAllContent(anyInt(), anyInt(), any())).thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        // First call hands out the ETag
+        String etag = mockMvc.perform(get("/api/content").principal(mockPrincipal))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Poll with If-None-Match -> 304, service not touched again
+        mockMvc.perform(get("/api/content").principal(mockPrincipal).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(courseContentService, times(1)).getAllContent(anyInt(), anyInt(), any());
+
+        // Feed changed -> new version -> full response again
+        when(contentVersions.feedVersion()).thenReturn(43L);
+        mockMvc.perform(get("/api/content").principal(mockPrincipal).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllContent_UsersWithCollidingHashCodes_DoNotShareEtags() throws Exception {
+        when(contentVersions.feedVersion()).thenReturn(42L);
+        when(courseContentService.getAllContent(anyInt(), anyInt(), any())).thenReturn(new PageImpl<>(Collections.emptyList()));
+        Principal first = () -> "Aa@example.com";
+        Principal second = () -> "BB@example.com"; // same String.hashCode()
+
+        String etag = mockMvc.perform(get("/api/content").principal(first))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/content").principal(second).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllContent_Guest_WritesPreSerializedBody() throws Exception {
+        byte[] body = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+        when(courseContentService.getGuestFeedVersion()).thenReturn("1.0");
+        when(courseContentService.getAllContentJson(0, 10, "1.0")).thenReturn(body);
+
+        mockMvc.perform(get("/api/content"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists("ETag"))
+                .andExpect(content().bytes(body));
+        verify(courseContentService, never()).getAllContent(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void getAllContent_Guest_UnchangedBodyVersion_Returns304WithoutLoadingTheBody() throws Exception {
+        when(courseContentService.getGuestFeedVersion()).thenReturn("1.0");
+        when(courseContentService.getAllContentJson(0, 10, "1.0")).thenReturn("{\"content\":[]}".getBytes(StandardCharsets.UTF_8));
+        String etag = mockMvc.perform(get("/api/content"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/content").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(courseContentService, times(1)).getAllContentJson(anyInt(), anyInt(), any());
+
+        // Upload/delete or a new TTL period -> new body version -> full response again
+        when(courseContentService.getGuestFeedVersion()).thenReturn("1.1");
+        when(courseContentService.getAllContentJson(0, 10, "1.1")).thenReturn("{\"content\":[{}]}".getBytes(StandardCharsets.UTF_8));
+        mockMvc.perform(get("/api/content").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getSummary_UnchangedSummary_Returns304WithoutLoadingContent() throws Exception {
+        when(contentVersions.summaryVersion(1L)).thenReturn(7L);
+
+        mockMvc.perform(get("/api/content/1/summary").header("If-None-Match", "\"summary-1-7\""))
+                .andExpect(status().isNotModified());
+        verify(courseContentService, never()).getSummary(anyLong());
+    }
+
+    @Test
+    void getSummary_ReturnsStoredSummary() throws Exception {
+        when(courseContentService.getSummary(1L)).thenReturn(new SummaryResponseDTO(1L, "Short summary", "- point"));
+
+        mockMvc.perform(get("/api/content/1/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary").value("Short summary"))
+                .andExpect(jsonPath("$.keyPoints").value("- point"));
+    }
+
+    @Test
+    void getFeed_ReturnsItemsAndNextCursor() throws Exception {
+        CursorPageResponseDTO<CourseContentResponseDTO> slice =
+                new CursorPageResponseDTO<>(List.of(new CourseContentResponseDTO()), "abc", true);
+        when(courseContentService.getFeed(eq("xyz"), eq(5), any())).thenReturn(slice);
+
+        mockMvc.perform(get("/api/content/feed")
+                        .param("cursor", "xyz")
+                        .param("size", "5")
+                        .principal(mockPrincipal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("abc"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void getFeedChanges_PassesSinceVersion() throws Exception {
+        when(courseContentService.getFeedChanges(eq(12L), any()))
+                .thenReturn(new FeedChangesResponseDTO(14L, false, false, List.of(), List.of(3L)));
+
+        mockMvc.perform(get("/api/content/changes").param("since", "12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(14))
+                .andExpect(jsonPath("$.deletedIds[0]").value(3));
+    }
+
+    @Test
+    void getTrending_ReturnsPageWithEtag() throws Exception {
+        when(contentVersions.feedVersion()).thenReturn(3L);
+        when(courseContentService.getTrending(eq(0), eq(10), any()))
+                .thenReturn(new PageImpl<>(List.of(new CourseContentResponseDTO())));
+
+        mockMvc.perform(get("/api/content/trending"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
+    @Test
+    void browseContent_ParsesFiltersAndReturnsFacets() throws Exception {
+        when(courseContentService.browseContent(eq("application/pdf"), eq(4L), eq(LocalDate.of(2024, 3, 1)),
+                eq(LocalDate.of(2024, 3, 31)), isNull(), eq(10), any()))
+                .thenReturn(new BrowseResponseDTO(List.of(new CourseContentResponseDTO()), null, false,
+                        List.of(new FacetCountDTO("application/pdf", "application/pdf", 6)),
+                        List.of(new FacetCountDTO("4", "Ann", 6))));
+
+        mockMvc.perform(get("/api/content/browse")
+                        .param("type", "application/pdf")
+                        .param("uploaderId", "4")
+                        .param("from", "2024-03-01")
+                        .param("to", "2024-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.typeFacets[0].count").value(6))
+                .andExpect(jsonPath("$.uploaderFacets[0].label").value("Ann"));
+    }
+
+    @Test
+    void searchContent_ReturnsRankedPage() throws Exception {
+        CourseContentResponseDTO hit = new CourseContentResponseDTO();
+        hit.setId(7L);
+        when(courseContentService.searchContent(eq("spring boot"), eq(0), eq(10), any()))
+                .thenReturn(new PageImpl<>(List.of(hit)));
+
+        mockMvc.perform(get("/api/content/search")
+                        .param("q", "spring boot")
+                        .principal(mockPrincipal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(7));
+    }
+
+    @Test
+    void suggest_ReturnsSuggestions() throws Exception {
+        when(courseContentService.suggest("jav", 5))
+                .thenReturn(List.of(new SuggestionResponseDTO("Java Basics.pdf", "TITLE", 4)));
+
+        mockMvc.perform(get("/api/content/suggest")
+                        .param("q", "jav")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("Java Basics.pdf"))
+                .andExpect(jsonPath("$[0].type").value("TITLE"));
+    }
+
+    @Test
+    void exportContent_StreamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(contentExportService).exportNdjson(any());
+
+        MvcResult result = mockMvc.perform(get("/api/content/export")
+                        .principal(mockPrincipal))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
     @Test
     void uploadContent_Success() throws Exception {
         MockMultipartFile file = new MockMultipartFile("file", "test.pdf", "application/pdf", "data".getBytes());
@@ -89,11 +302,25 @@ class CourseContentControllerTest {
     }
 
     @Test
-    void getMyContents_ReturnsList() throws Exception {
-        when(courseContentService.getMyContents(any())).thenReturn(List.of());
+    void getMyContents_ReturnsSlice() throws Exception {
+        when(courseContentService.getMyContents(any(), eq("abc"), eq(20)))
+                .thenReturn(new CursorPageResponseDTO<>(List.of(), null, false));
 
         mockMvc.perform(get("/api/content/my-contents")
+                        .param("cursor", "abc")
                         .principal(mockPrincipal)) // ✅ Inject Fake User
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getMyContentsSummary_ReturnsTotals() throws Exception {
+        when(courseContentService.getMyContentsSummary(any())).thenReturn(new MyContentsSummaryDTO(3, 10, 2));
+
+        mockMvc.perform(get("/api/content/my-contents/summary")
+                        .principal(mockPrincipal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalUploads").value(3))
+                .andExpect(jsonPath("$.totalLikes").value(10));
     }
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.silverline.task.coursecontent.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverline.task.coursecontent.cache.ContentVersions;
 import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.InteractionResultDTO;
+import com.silverline.task.coursecontent.controller.dto.response.LikerResponseDTO;
 import com.silverline.task.coursecontent.security.JwtService;
 import com.silverline.task.coursecontent.service.InteractionService;
 import org.junit.jupiter.api.Test;
@@ -9,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -19,10 +25,16 @@ import java.util.Map;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(InteractionController.class)
@@ -37,6 +49,7 @@ class InteractionControllerTest {
 
     @MockitoBean private InteractionService interactionService;
     @MockitoBean private JwtService jwtService; // Required for Security Config
+    @MockitoBean private ContentVersions contentVersions;
 
     private final Principal mockPrincipal = () -> "test@user.com";
 
@@ -50,6 +63,46 @@ class InteractionControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void putAndDeleteLike_SetExplicitState() throws Exception {
+        mockMvc.perform(put("/api/interactions/1/like").principal(mockPrincipal).with(csrf()))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/interactions/1/like").principal(mockPrincipal).with(csrf()))
+                .andExpect(status().isOk());
+
+        verify(interactionService).setLike(1L, "test@user.com", true);
+        verify(interactionService).setLike(1L, "test@user.com", false);
+    }
+
+    @Test
+    void applyBatch_ReturnsOneResultPerOperation() throws Exception {
+        when(interactionService.applyBatch(any(), eq("test@user.com"))).thenReturn(List.of(
+                new InteractionResultDTO(0, 1L, InteractionResultDTO.Status.APPLIED, null, null),
+                new InteractionResultDTO(1, 2L, InteractionResultDTO.Status.FAILED, "Content not found: 2", null)));
+
+        String body = "{\"operations\":[{\"type\":\"LIKE\",\"contentId\":1}," +
+                "{\"type\":\"COMMENT\",\"contentId\":2,\"text\":\"hi\"}]}";
+        mockMvc.perform(post("/api/interactions/batch")
+                        .principal(mockPrincipal)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("APPLIED"))
+                .andExpect(jsonPath("$[1].error").value("Content not found: 2"));
+    }
+
+    @Test
+    void getLikers_ReturnsPage() throws Exception {
+        when(interactionService.getLikers(1L, 0, 20)).thenReturn(
+                new PageImpl<>(List.of(new LikerResponseDTO(7L, "Dave", null)), PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(get("/api/interactions/1/likes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Dave"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
     @Test
     void addComment_Success() throws Exception {
         Map<String, String> payload = Map.of("content", "Great post!");
@@ -69,9 +122,35 @@ class InteractionControllerTest {
 
     @Test
     void getComments_ReturnsList() throws Exception {
-        when(interactionService.getComments(1L)).thenReturn(List.of(new CommentResponseDTO()));
+        when(interactionService.getComments(1L, null, 20))
+                .thenReturn(new CursorPageResponseDTO<>(List.of(new CommentResponseDTO()), "next", true));
 
         mockMvc.perform(get("/api/interactions/1/comments"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void getComments_PassesCursorAndSize() throws Exception {
+        when(interactionService.getComments(1L, "abc", 5)).thenReturn(new CursorPageResponseDTO<>(List.of(), null, false));
+
+        mockMvc.perform(get("/api/interactions/1/comments").param("cursor", "abc").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getComments_SetsETag_AndAnswers304WhenUnchanged() throws Exception {
+        when(contentVersions.commentsVersion(1L)).thenReturn(255L);
+        when(interactionService.getComments(1L, null, 20)).thenReturn(new CursorPageResponseDTO<>(List.of(), null, false));
+
+        mockMvc.perform(get("/api/interactions/1/comments"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"comments-1-ff-head-20\""));
+
+        mockMvc.perform(get("/api/interactions/1/comments").header("If-None-Match", "\"comments-1-ff-head-20\""))
+                .andExpect(status().isNotModified());
+        verify(interactionService, times(1)).getComments(1L, null, 20);
     }
-}
\ No newline at end of file
+}
@@ -39,6 +39,15 @@ class GlobalExceptionHandlerTest {
         assertEquals("Not found", response.getBody().get("message"));
     }
 
+    @Test
+    void handleInvalidCursor_ReturnsBadRequest() {
+        ResponseEntity<Map<String, Object>> response =
+                exceptionHandler.handleInvalidCursor(new InvalidCursorException("Invalid feed cursor"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid feed cursor", response.getBody().get("message"));
+    }
+
     @Test
     void handleGeneric_ReturnsInternalServerError() {
         // Arrange
@@ -0,0 +1,65 @@
+package com.silverline.task.coursecontent.facet;
+
+import com.silverline.task.coursecontent.repository.projection.ContentFacetRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private final FacetIndex index = new FacetIndex();
+
+    @Test
+    void counts_AreNarrowedByTheOtherDimension() {
+        index.rebuild(List.of(
+                row(1L, "application/pdf", 10L, "Ann"),
+                row(2L, "application/pdf", 10L, "Ann"),
+                row(3L, "video/youtube", 10L, "Ann"),
+                row(4L, "application/pdf", 20L, "Bob")));
+
+        assertEquals(List.of(new FacetIndex.FacetCount("application/pdf", "application/pdf", 3),
+                        new FacetIndex.FacetCount("video/youtube", "video/youtube", 1)),
+                index.typeCounts(null));
+        assertEquals(List.of(new FacetIndex.FacetCount("application/pdf", "application/pdf", 1)),
+                index.typeCounts(20L));
+        assertEquals(List.of(new FacetIndex.FacetCount("10", "Ann", 3), new FacetIndex.FacetCount("20", "Bob", 1)),
+                index.uploaderCounts(null));
+        assertEquals(List.of(new FacetIndex.FacetCount("10", "Ann", 1)), index.uploaderCounts("video/youtube"));
+    }
+
+    @Test
+    void uploadAndDelete_AdjustSingleCells() {
+        index.index(row(1L, "resource/link", 10L, "Ann"));
+        index.index(row(1L, "resource/link", 10L, "Ann")); // re-index is idempotent
+        index.index(row(2L, "resource/link", 20L, null));
+
+        assertEquals(2, index.typeCounts(null).get(0).count());
+        assertEquals("bob@test.com", index.uploaderCounts(null).get(1).label()); // name missing -> email
+
+        index.remove(1L);
+        index.remove(1L);
+
+        assertEquals(List.of(new FacetIndex.FacetCount("resource/link", "resource/link", 1)), index.typeCounts(null));
+        assertEquals(List.of(new FacetIndex.FacetCount("20", "bob@test.com", 1)), index.uploaderCounts(null));
+        assertTrue(index.typeCounts(10L).isEmpty());
+    }
+
+    @Test
+    void rebuild_ReplaysUploadsAndDeletesThatArriveWhileLoading() {
+        index.beginRebuild();
+        index.addToRebuild(List.of(row(1L, "application/pdf", 10L, "Ann"))); // the table as it was read
+        index.index(row(2L, "video/youtube", 20L, "Bob"));                 // uploaded meanwhile
+        index.remove(1L);                                                   // deleted meanwhile
+        index.completeRebuild();
+
+        assertEquals(List.of(new FacetIndex.FacetCount("video/youtube", "video/youtube", 1)), index.typeCounts(null));
+        assertEquals(1, index.size());
+    }
+
+    private ContentFacetRow row(Long id, String type, Long uploaderId, String name) {
+        String email = (uploaderId == 10L) ? "ann@test.com" : "bob@test.com";
+        return new ContentFacetRow(id, type, uploaderId, name, email);
+    }
+}
@@ -90,8 +90,6 @@ class ModelTest {
         c.setFileSize(100L);
         c.setUploadDate(LocalDateTime.now());
         c.setFileUrl("http://url");
-        c.setSummary("sum");
-        c.setKeyPoints("keys");
 
         User u = new User();
         c.setUser(u);
@@ -112,14 +110,24 @@ class ModelTest {
         assertEquals(100L, c.getFileSize());
         assertNotNull(c.getUploadDate());
         assertEquals("http://url", c.getFileUrl());
-        assertEquals("sum", c.getSummary());
-        assertEquals("keys", c.getKeyPoints());
         assertEquals(u, c.getUser());
         assertEquals(likes, c.getLikes());
         assertEquals(comments, c.getComments());
         assertEquals(notifications, c.getNotifications());
     }
 
+    @Test
+    void testContentDetail() {
+        ContentDetail d = new ContentDetail(10L, "sum", "keys");
+
+        assertEquals(10L, d.getContentId());
+        assertEquals("sum", d.getSummary());
+        assertEquals("keys", d.getKeyPoints());
+
+        d.setSummary("new");
+        assertEquals("new", d.getSummary());
+    }
+
     @Test
     void testComment() {
         Comment c = new Comment();
@@ -0,0 +1,74 @@
+package com.silverline.task.coursecontent.search;
+
+import com.silverline.task.coursecontent.repository.projection.SearchDocumentRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentSearchIndexTest {
+
+    private final ContentSearchIndex index = new ContentSearchIndex();
+
+    @Test
+    void search_TitleMatchOutranksBodyMatch() {
+        index.rebuild(List.of(
+                doc(1L, "notes.pdf", null, "a long chapter that mentions kubernetes once"),
+                doc(2L, "kubernetes-intro.pdf", "Kubernetes basics", null),
+                doc(3L, "cooking.pdf", "pasta", null)));
+
+        ContentSearchIndex.SearchHits hits = index.search("Kubernetes", 0, 10);
+
+        assertEquals(2, hits.total());
+        assertEquals(List.of(2L, 1L), hits.contentIds());
+    }
+
+    @Test
+    void search_PaginatesAndReportsTotal() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(doc(id, "java-" + id + ".pdf", "java lecture", null));
+        }
+
+        ContentSearchIndex.SearchHits page = index.search("java", 2, 2);
+
+        assertEquals(5, page.total());
+        assertEquals(2, page.contentIds().size());
+    }
+
+    @Test
+    void remove_And_Reindex_UpdateResults() {
+        index.index(doc(1L, "spring.pdf", "spring boot", null));
+        index.index(doc(2L, "docker.pdf", "containers", null));
+
+        index.remove(1L);
+        index.index(doc(2L, "docker.pdf", "containers with spring", null));
+
+        assertEquals(List.of(2L), index.search("spring", 0, 10).contentIds());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void search_StopWordsOnly_ReturnsNothing() {
+        index.index(doc(1L, "the-end.pdf", "the end", null));
+
+        assertEquals(0, index.search("the a of", 0, 10).total());
+    }
+
+    @Test
+    void rebuild_ReplaysChangesThatArriveWhileLoading() {
+        index.rebuild(List.of(doc(1L, "docker.pdf", null, null)));
+
+        index.beginRebuild();
+        index.addToRebuild(List.of(doc(1L, "docker.pdf", null, null))); // the table as it was read
+        index.index(doc(2L, "docker-compose.pdf", null, null));          // uploaded meanwhile
+        index.remove(1L);                                                // deleted meanwhile
+        index.completeRebuild();
+
+        assertEquals(List.of(2L), index.search("docker", 0, 10).contentIds());
+    }
+
+    private SearchDocumentRow doc(Long id, String fileName, String description, String text) {
+        return new SearchDocumentRow(id, fileName, description, null, null, text);
+    }
+}
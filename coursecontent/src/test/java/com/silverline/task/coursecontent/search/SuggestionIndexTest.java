@@ -0,0 +1,82 @@
+package com.silverline.task.coursecontent.search;
+
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionIndexTest {
+
+    private final SuggestionIndex index = new SuggestionIndex();
+
+    @Test
+    void suggest_RanksByPopularity() {
+        index.rebuild(List.of(
+                row(1L, "Java Basics.pdf", "Alice", 0, 0),
+                row(2L, "JavaScript Guide.pdf", "Bob", 10, 5)));
+
+        List<SuggestionIndex.Suggestion> titles = index.suggest("jav", 10).stream()
+                .filter(s -> s.kind() == SuggestionIndex.Kind.TITLE)
+                .toList();
+
+        assertEquals("JavaScript Guide.pdf", titles.get(0).text());
+        assertEquals(16, titles.get(0).score());
+        assertEquals("Java Basics.pdf", titles.get(1).text());
+    }
+
+    @Test
+    void suggest_MatchesUploaderAndKeywordsCaseInsensitively() {
+        index.index(row(1L, "notes.pdf", "Nimal Perera", 0, 0));
+
+        assertTrue(index.suggest("NIM", 5).stream()
+                .anyMatch(s -> s.kind() == SuggestionIndex.Kind.UPLOADER && s.text().equals("Nimal Perera")));
+        assertTrue(index.suggest("recurs", 5).stream()
+                .anyMatch(s -> s.kind() == SuggestionIndex.Kind.KEYWORD && s.text().equals("recursion")));
+    }
+
+    @Test
+    void remove_DropsSuggestionsOnlyUsedByThatItem() {
+        index.index(row(1L, "Docker.pdf", "Alice", 0, 0));
+        index.index(row(2L, "Kubernetes.pdf", "Alice", 0, 0));
+
+        index.remove(1L);
+
+        assertTrue(index.suggest("dock", 5).isEmpty());
+        SuggestionIndex.Suggestion uploader = index.suggest("ali", 5).get(0);
+        assertEquals("Alice", uploader.text());
+        assertEquals(1, uploader.score()); // only Kubernetes.pdf still counts
+    }
+
+    @Test
+    void suggest_RespectsLimitAndBlankPrefix() {
+        for (long id = 1; id <= 20; id++) {
+            index.index(row(id, "topic-" + id + ".pdf", "Alice", 0, 0));
+        }
+
+        assertEquals(3, index.suggest("topic", 3).size());
+        assertEquals(SuggestionIndex.MAX_SUGGESTIONS, index.suggest("topic", 100).size());
+        assertTrue(index.suggest("  ", 5).isEmpty());
+    }
+
+    @Test
+    void rebuild_ReplaysChangesThatArriveWhileLoading() {
+        index.beginRebuild();
+        index.addToRebuild(List.of(row(1L, "Python Intro.pdf", "Alice", 0, 0))); // the table as it was read
+        index.index(row(2L, "Python Advanced.pdf", "Bob", 0, 0));               // uploaded meanwhile
+        index.remove(1L);                                                        // deleted meanwhile
+        index.completeRebuild();
+
+        assertEquals(List.of("Python Advanced.pdf"), index.suggest("pyth", 10).stream()
+                .filter(s -> s.kind() == SuggestionIndex.Kind.TITLE)
+                .map(SuggestionIndex.Suggestion::text)
+                .toList());
+    }
+
+    private ContentFeedRow row(Long id, String fileName, String uploader, int likes, int comments) {
+        return new ContentFeedRow(id, fileName, "intro to recursion", "application/pdf", 100L,
+                LocalDateTime.of(2024, 1, 1, 10, 0), null, uploader, "u@test.com", null, likes, comments);
+    }
+}
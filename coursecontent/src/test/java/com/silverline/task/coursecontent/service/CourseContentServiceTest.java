@@ -1,23 +1,73 @@
 package com.silverline.task.coursecontent.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentFeedCache;
+import com.silverline.task.coursecontent.cache.ContentItemCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.cache.UserIdCache;
+import com.silverline.task.coursecontent.controller.dto.response.BrowseResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CourseContentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.FeedChangesResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.MyContentsSummaryDTO;
+import com.silverline.task.coursecontent.controller.dto.response.SummaryResponseDTO;
 import com.silverline.task.coursecontent.controller.dto.response.UploadResponseDTO;
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
 import com.silverline.task.coursecontent.exceptions.FileStorageException;
+import com.silverline.task.coursecontent.exceptions.InvalidCursorException;
+import com.silverline.task.coursecontent.exceptions.ResourceNotFoundException;
+import com.silverline.task.coursecontent.facet.FacetIndex;
+import com.silverline.task.coursecontent.model.ContentChange;
+import com.silverline.task.coursecontent.model.ContentDetail;
+import com.silverline.task.coursecontent.model.ContentText;
 import com.silverline.task.coursecontent.model.CourseContent;
 import com.silverline.task.coursecontent.model.User;
+import com.silverline.task.coursecontent.repository.ContentDetailRepository;
+import com.silverline.task.coursecontent.repository.ContentTextRepository;
 import com.silverline.task.coursecontent.repository.CourseContentRepository;
 import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.repository.projection.ContentCounters;
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import com.silverline.task.coursecontent.repository.projection.UploaderTotals;
+import com.silverline.task.coursecontent.search.ContentSearchIndex;
+import com.silverline.task.coursecontent.search.SuggestionIndex;
+import com.silverline.task.coursecontent.service.AiSummarizationService;
+import com.silverline.task.coursecontent.service.impl.ContentChangeLog;
 import com.silverline.task.coursecontent.service.impl.CourseContentServiceImpl;
+import com.silverline.task.coursecontent.service.impl.LikeWriteBuffer;
+import com.silverline.task.coursecontent.trending.TrendingIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class) // Enables Mockito
@@ -32,6 +82,61 @@ class CourseContentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy // No-op cache: every call loads straight from the repository
+    private ContentFeedCache contentFeedCache = new ContentFeedCache(new NoOpCacheManager(), new SimpleMeterRegistry(),
+            Duration.ofSeconds(30));
+
+    @Spy
+    private ContentItemCache contentItemCache = new ContentItemCache(new NoOpCacheManager(), new SimpleMeterRegistry());
+
+    @Mock
+    private ContentCounterCache contentCounterCache;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    @Mock
+    private UploaderTotalsCache uploaderTotalsCache;
+
+    @Mock
+    private FileTextExtractor fileTextExtractor;
+
+    @Mock
+    private ContentTextRepository contentTextRepository;
+
+    @Mock
+    private ContentDetailRepository contentDetailRepository;
+
+    @Mock
+    private AiSummarizationService aiSummarizationService;
+
+    @Mock
+    private ContentSearchIndex contentSearchIndex;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private TrendingIndex trendingIndex;
+
+    @Mock
+    private FacetIndex facetIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ContentChangeLog contentChangeLog;
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private UserIdCache userIdCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     // Inject mocks into the real service implementation
     @InjectMocks
     private CourseContentServiceImpl courseContentService;
@@ -86,4 +191,245 @@ class CourseContentServiceTest {
         assertTrue(exception.getMessage().contains("Invalid file type"));
         verify(repository, never()).save(any()); // Ensure nothing was saved to DB
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllContent_LoggedIn_UsesSingleLikeLookupForWholePage() {
+        // Arrange: a page of 3 items, user liked only the 2nd one
+        List<ContentFeedRow> rows = List.of(row(1L), row(2L), row(3L));
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(rows));
+        when(userIdCache.find("user@test.com")).thenReturn(Optional.of(5L));
+        when(repository.findLikedContentIds(eq("user@test.com"), anyCollection())).thenReturn(List.of(2L));
+
+        // Act
+        Page<CourseContentResponseDTO> result = courseContentService.getAllContent(0, 10, "user@test.com");
+
+        // Assert
+        assertEquals(3, result.getContent().size());
+        assertFalse(result.getContent().get(0).isLikedByCurrentUser());
+        assertTrue(result.getContent().get(1).isLikedByCurrentUser());
+        assertFalse(result.getContent().get(2).isLikedByCurrentUser());
+
+        // Query count is constant: one like lookup, no per-item loads, user id from the cache
+        verify(repository, times(1)).findLikedContentIds(eq("user@test.com"), anyCollection());
+        verify(repository, never()).findById(anyLong());
+        verify(repository, never()).findFeedRowsByIdIn(any()); // the page's rows are used as loaded
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getAllContent_LoggedInUserWithoutUserRow_ThrowsInsteadOfServingGuestView() {
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row(1L))));
+        when(userIdCache.find("ghost@test.com")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> courseContentService.getAllContent(0, 10, "ghost@test.com"));
+        verify(repository, never()).findLikedContentIds(any(), anyCollection());
+    }
+
+    @Test
+    void getAllContent_Guest_SkipsLikeLookup() {
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row(1L))));
+
+        Page<CourseContentResponseDTO> result = courseContentService.getAllContent(0, 10, null);
+
+        assertEquals(1, result.getContent().size());
+        verify(repository, never()).findLikedContentIds(any(), anyCollection());
+    }
+
+    @Test
+    void getAllContent_OverlaysFreshCountersOnCachedPage() {
+        // Cached page says 0 likes, counter cache knows the current value
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row(1L))));
+        when(contentCounterCache.getCounters(List.of(1L))).thenReturn(Map.of(1L, new ContentCounters(1L, 7, 3)));
+
+        Page<CourseContentResponseDTO> result = courseContentService.getAllContent(0, 10, null);
+
+        assertEquals(7, result.getContent().get(0).getLikeCount());
+        assertEquals(3, result.getContent().get(0).getCommentCount());
+    }
+
+    @Test
+    void getAllContentJson_SerializesGuestPage() throws Exception {
+        when(repository.findFeedRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row(1L))));
+
+        byte[] body = courseContentService.getAllContentJson(0, 10, "1.0");
+
+        assertTrue(new String(body, StandardCharsets.UTF_8).contains("\"fileName\":\"file-1\""));
+        verify(repository, never()).findLikedContentIds(any(), anyCollection());
+    }
+
+    @Test
+    void generateAndSaveSummary_StoresPdfTextCappedLikeUploads() {
+        CourseContent content = new CourseContent();
+        content.setId(5L);
+        content.setFileName("big.pdf");
+        content.setFileType("application/pdf");
+        content.setFileUrl("uploads/big.pdf");
+        when(repository.findById(5L)).thenReturn(Optional.of(content));
+        when(fileStorageService.readFile("uploads/big.pdf")).thenReturn(new byte[]{1});
+        when(fileTextExtractor.extractText(any(), eq("application/pdf"), eq("big.pdf"))).thenReturn("x".repeat(250_000));
+
+        courseContentService.generateAndSaveSummary(5L);
+
+        ArgumentCaptor<ContentText> saved = ArgumentCaptor.forClass(ContentText.class);
+        verify(contentTextRepository).save(saved.capture());
+        assertEquals(100_000, saved.getValue().getText().length());
+    }
+
+    @Test
+    void getFeed_ReturnsSliceAndCursorThatResumesAfterLastItem() {
+        // Arrange: page size 2, repository returns 3 rows (size + 1) -> there is a next page
+        ContentFeedRow r3 = row(3L, LocalDateTime.of(2024, 1, 3, 10, 0));
+        ContentFeedRow r2 = row(2L, LocalDateTime.of(2024, 1, 2, 10, 0));
+        ContentFeedRow r1 = row(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(repository.findFeedRowsHead(any(Pageable.class))).thenReturn(List.of(r3, r2, r1));
+        when(repository.findFeedRowsAfter(eq(r2.getUploadDate()), eq(2L), any(Pageable.class))).thenReturn(List.of(r1));
+
+        // Act
+        CursorPageResponseDTO<CourseContentResponseDTO> first = courseContentService.getFeed(null, 2, null);
+        CursorPageResponseDTO<CourseContentResponseDTO> second = courseContentService.getFeed(first.getNextCursor(), 2, null);
+
+        // Assert
+        assertEquals(2, first.getItems().size());
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+        assertEquals(1, second.getItems().size());
+        assertEquals(1L, second.getItems().get(0).getId());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void getFeed_InvalidCursor_ThrowsException() {
+        assertThrows(InvalidCursorException.class, () -> courseContentService.getFeed("not-a-cursor", 10, null));
+        verify(repository, never()).findFeedRowsAfter(any(), any(), any());
+    }
+
+    @Test
+    void searchContent_KeepsIndexRankingAndTotal() {
+        // Index ranks 3 before 1; the IN query returns them in id order
+        when(contentSearchIndex.search("spring", 0, 10)).thenReturn(new ContentSearchIndex.SearchHits(12, List.of(3L, 1L)));
+        when(repository.findFeedRowsByIdIn(List.of(3L, 1L))).thenReturn(List.of(row(1L), row(3L)));
+
+        Page<CourseContentResponseDTO> result = courseContentService.searchContent("spring", 0, 10, null);
+
+        assertEquals(12, result.getTotalElements());
+        assertEquals(List.of(3L, 1L), result.getContent().stream().map(CourseContentResponseDTO::getId).toList());
+    }
+
+    @Test
+    void searchContent_NoHits_SkipsDatabase() {
+        when(contentSearchIndex.search("nothing", 0, 10)).thenReturn(new ContentSearchIndex.SearchHits(0, List.of()));
+
+        Page<CourseContentResponseDTO> result = courseContentService.searchContent("nothing", 0, 10, null);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getTrending_ReadsRankingFromIndexNotDatabaseAggregate() {
+        when(trendingIndex.page(10, 10)).thenReturn(new TrendingIndex.TrendingPage(25, List.of(5L, 9L)));
+        when(repository.findFeedRowsByIdIn(List.of(5L, 9L))).thenReturn(List.of(row(9L), row(5L)));
+
+        Page<CourseContentResponseDTO> result = courseContentService.getTrending(1, 10, null);
+
+        assertEquals(25, result.getTotalElements());
+        assertEquals(List.of(5L, 9L), result.getContent().stream().map(CourseContentResponseDTO::getId).toList());
+        verify(repository, never()).findFeedRows(any(Pageable.class));
+    }
+
+    @Test
+    void browseContent_FiltersInQueryAndTakesFacetsFromIndex() {
+        when(repository.findBrowseRowsHead(eq("video/mp4"), eq(7L), eq(LocalDateTime.of(2024, 1, 1, 0, 0)),
+                eq(LocalDateTime.of(2024, 2, 1, 0, 0)), any(Pageable.class))).thenReturn(List.of(row(3L)));
+        when(facetIndex.typeCounts(7L)).thenReturn(List.of(new FacetIndex.FacetCount("video/mp4", "video/mp4", 4)));
+        when(facetIndex.uploaderCounts("video/mp4")).thenReturn(List.of(new FacetIndex.FacetCount("7", "Uploader", 4)));
+
+        BrowseResponseDTO result = courseContentService.browseContent("video/mp4", 7L,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null, 10, null);
+
+        assertEquals(List.of(3L), result.getItems().stream().map(CourseContentResponseDTO::getId).toList());
+        assertFalse(result.isHasNext());
+        assertEquals(4, result.getTypeFacets().get(0).getCount());
+        assertEquals("Uploader", result.getUploaderFacets().get(0).getLabel());
+    }
+
+    @Test
+    void getMyContents_PagesWithCursorWithoutLoadingEntities() {
+        ContentFeedRow r2 = row(2L, LocalDateTime.of(2024, 1, 2, 10, 0));
+        ContentFeedRow r1 = row(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(repository.findUserFeedRowsHead(eq("me@test.com"), any(Pageable.class))).thenReturn(List.of(r2, r1));
+        when(userIdCache.find("me@test.com")).thenReturn(Optional.of(3L));
+
+        CursorPageResponseDTO<CourseContentResponseDTO> slice = courseContentService.getMyContents("me@test.com", null, 1);
+
+        assertEquals(1, slice.getItems().size());
+        assertEquals(2L, slice.getItems().get(0).getId());
+        assertTrue(slice.isHasNext());
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getMyContentsSummary_ComesFromPerUserCache() {
+        when(uploaderTotalsCache.get("me@test.com")).thenReturn(new UploaderTotals(4L, 12L, 3L));
+
+        MyContentsSummaryDTO summary = courseContentService.getMyContentsSummary("me@test.com");
+
+        assertEquals(4, summary.getTotalUploads());
+        assertEquals(12, summary.getTotalLikes());
+        assertEquals(3, summary.getTotalComments());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getSummary_ReadsDetailRowOnly() {
+        when(contentDetailRepository.findById(5L)).thenReturn(Optional.of(new ContentDetail(5L, "sum", "keys")));
+
+        SummaryResponseDTO summary = courseContentService.getSummary(5L);
+
+        assertEquals("sum", summary.getSummary());
+        assertEquals("keys", summary.getKeyPoints());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getSummary_NoDetailYet_ReturnsNull() {
+        when(contentDetailRepository.findById(5L)).thenReturn(Optional.empty());
+        when(repository.existsById(5L)).thenReturn(true);
+
+        assertNull(courseContentService.getSummary(5L));
+    }
+
+    @Test
+    void getFeedChanges_CollapsesLogIntoUpsertsAndDeletions() {
+        List<ContentChange> log = List.of(
+                change(1L, ContentChangedEvent.Type.LIKED),
+                change(2L, ContentChangedEvent.Type.CREATED),
+                change(1L, ContentChangedEvent.Type.COMMENTED),
+                change(3L, ContentChangedEvent.Type.DELETED),
+                change(4L, ContentChangedEvent.Type.UPDATED)); // 4 is gone by now
+        when(contentChangeLog.readSince(eq(10L), anyInt())).thenReturn(new ContentChangeLog.ChangeBatch(15L, false, false, log));
+        when(repository.findFeedRowsByIdIn(List.of(1L, 2L, 4L))).thenReturn(List.of(row(1L), row(2L)));
+
+        FeedChangesResponseDTO changes = courseContentService.getFeedChanges(10L, null);
+
+        assertEquals(15L, changes.getVersion());
+        assertEquals(List.of(1L, 2L), changes.getUpserts().stream().map(CourseContentResponseDTO::getId).toList());
+        assertEquals(List.of(3L, 4L), changes.getDeletedIds());
+    }
+
+    private ContentFeedRow row(Long id) {
+        return row(id, LocalDateTime.of(2024, 1, 1, 10, 0));
+    }
+
+    private ContentFeedRow row(Long id, LocalDateTime uploadDate) {
+        return new ContentFeedRow(id, "file-" + id, null, "application/pdf", 100L, uploadDate,
+                "https://example.com/" + id, "Uploader", "uploader@test.com", null, 0, 0);
+    }
+
+    private ContentChange change(Long contentId, ContentChangedEvent.Type type) {
+        return new ContentChange(contentId, type);
+    }
+}
@@ -0,0 +1,116 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.model.ContentChange;
+import com.silverline.task.coursecontent.repository.ContentChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentChangeLogTest {
+
+    @Mock
+    private ContentChangeRepository changeRepository;
+
+    private ContentChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new ContentChangeLog(changeRepository, Duration.ofMinutes(1), Duration.ofDays(7));
+    }
+
+    @Test
+    void onContentChanged_AppendsLogEntry() {
+        changeLog.onContentChanged(new ContentChangedEvent(7L, ContentChangedEvent.Type.LIKED, 1L));
+
+        ArgumentCaptor<ContentChange> saved = ArgumentCaptor.forClass(ContentChange.class);
+        verify(changeRepository).save(saved.capture());
+        assertEquals(7L, saved.getValue().getContentId());
+        assertEquals(ContentChangedEvent.Type.LIKED, saved.getValue().getType());
+    }
+
+    @Test
+    void readSince_NoVersion_ReturnsBaselineAndReset() {
+        when(changeRepository.findLatestIdBefore(any())).thenReturn(42L);
+
+        ContentChangeLog.ChangeBatch batch = changeLog.readSince(null, 10);
+
+        assertTrue(batch.resetRequired());
+        assertEquals(42L, batch.version());
+        verify(changeRepository, never()).findAfter(any(), any());
+    }
+
+    @Test
+    void readSince_VersionOlderThanRetainedHistory_RequiresReset() {
+        when(changeRepository.findOldestId()).thenReturn(100L);
+        when(changeRepository.findLatestIdBefore(any())).thenReturn(150L);
+
+        assertTrue(changeLog.readSince(50L, 10).resetRequired());
+    }
+
+    @Test
+    void readSince_ReturnsBatchAndFlagsMore() {
+        when(changeRepository.findOldestId()).thenReturn(1L);
+        when(changeRepository.findAfter(eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(change(11L), change(12L), change(13L)));
+
+        ContentChangeLog.ChangeBatch batch = changeLog.readSince(10L, 2);
+
+        assertFalse(batch.resetRequired());
+        assertTrue(batch.hasMore());
+        assertEquals(2, batch.changes().size());
+        assertEquals(12L, batch.version());
+    }
+
+    @Test
+    void readSince_LowerIdCommittedLate_IsNotSkipped() {
+        when(changeRepository.findOldestId()).thenReturn(1L);
+        // 12 committed first; 11 is still in an open transaction
+        when(changeRepository.findAfter(eq(10L), any(Pageable.class))).thenReturn(List.of(change(12L)));
+
+        ContentChangeLog.ChangeBatch waiting = changeLog.readSince(10L, 10);
+        assertEquals(10L, waiting.version());
+        assertTrue(waiting.changes().isEmpty());
+        assertFalse(waiting.hasMore());
+
+        // 11 commits later, long after 12 became visible
+        when(changeRepository.findAfter(eq(10L), any(Pageable.class))).thenReturn(List.of(change(11L), change(12L)));
+
+        ContentChangeLog.ChangeBatch batch = changeLog.readSince(10L, 10);
+        assertEquals(List.of(11L, 12L), batch.changes().stream().map(ContentChange::getId).toList());
+        assertEquals(12L, batch.version());
+    }
+
+    @Test
+    void readSince_GapOlderThanTimeout_IsTreatedAsRolledBack() {
+        when(changeRepository.findOldestId()).thenReturn(1L);
+        ContentChange afterGap = change(12L);
+        afterGap.setChangedAt(LocalDateTime.now().minusMinutes(5));
+        when(changeRepository.findAfter(eq(10L), any(Pageable.class))).thenReturn(List.of(afterGap, change(13L)));
+
+        ContentChangeLog.ChangeBatch batch = changeLog.readSince(10L, 10);
+
+        assertEquals(2, batch.changes().size());
+        assertEquals(13L, batch.version());
+    }
+
+    private ContentChange change(Long id) {
+        ContentChange change = new ContentChange(id * 10, ContentChangedEvent.Type.UPDATED);
+        change.setId(id);
+        return change;
+    }
+}
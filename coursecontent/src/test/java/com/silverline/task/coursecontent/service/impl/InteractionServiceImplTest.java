@@ -1,24 +1,59 @@
 package com.silverline.task.coursecontent.service.impl;
 
+import com.silverline.task.coursecontent.cache.CommentPageCache;
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.controller.dto.request.InteractionOperation;
 import com.silverline.task.coursecontent.controller.dto.response.CommentResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.CursorPageResponseDTO;
+import com.silverline.task.coursecontent.controller.dto.response.InteractionResultDTO;
+import com.silverline.task.coursecontent.controller.dto.response.LikerResponseDTO;
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.exceptions.InvalidBatchException;
 import com.silverline.task.coursecontent.model.*;
 import com.silverline.task.coursecontent.repository.CommentRepository;
 import com.silverline.task.coursecontent.repository.CourseContentRepository;
 import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.repository.projection.CommentRow;
 import com.silverline.task.coursecontent.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +67,21 @@ class InteractionServiceImplTest {
     private CommentRepository commentRepository;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private ContentCounterCache contentCounterCache;
+    @Mock
+    private ContentVersions contentVersions;
+    @Mock
+    private UploaderTotalsCache uploaderTotalsCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer; // disabled (mock default) unless a test turns it on
+    @Spy
+    private CommentPageCache commentPageCache = new CommentPageCache(new NoOpCacheManager(),
+            new ContentVersions(new NoOpCacheManager()), new SimpleMeterRegistry());
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     @InjectMocks
     private InteractionServiceImpl interactionService;
@@ -41,21 +91,21 @@ class InteractionServiceImplTest {
         // Arrange
         User owner = new User(); owner.setId(1L);
         User liker = new User(); liker.setId(2L);
-
-        CourseContent content = new CourseContent();
-        content.setId(10L);
-        content.setUser(owner);
-        content.setLikes(new HashSet<>()); // Empty likes
+        CourseContent content = content(owner);
 
         when(contentRepository.findById(10L)).thenReturn(Optional.of(content));
         when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(contentRepository.deleteLike(10L, 2L)).thenReturn(0); // not liked yet
+        when(contentRepository.insertLike(10L, 2L)).thenReturn(1);
 
         // Act
         interactionService.toggleLike(10L, "liker@test.com");
 
         // Assert
-        assertTrue(content.getLikes().contains(liker));
-        verify(contentRepository).save(content);
+        verify(contentRepository).adjustLikeCount(10L, 1);
+        verify(contentRepository, never()).save(any()); // join table written directly, likes never loaded
+        verify(contentCounterCache).evict(10L); // only this item's counters are invalidated
+        verify(contentVersions).feedChanged();
         verify(notificationService).createNotification(eq(owner), eq(liker), eq(content), eq(NotificationType.LIKE));
     }
 
@@ -65,21 +115,116 @@ class InteractionServiceImplTest {
         User owner = new User(); owner.setId(1L);
         User liker = new User(); liker.setId(2L);
 
-        CourseContent content = new CourseContent();
-        content.setUser(owner);
-        content.setLikes(new HashSet<>());
-        content.getLikes().add(liker); // Already liked
-
-        when(contentRepository.findById(10L)).thenReturn(Optional.of(content));
+        when(contentRepository.findById(10L)).thenReturn(Optional.of(content(owner)));
         when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(contentRepository.deleteLike(10L, 2L)).thenReturn(1); // already liked
 
         // Act
         interactionService.toggleLike(10L, "liker@test.com");
 
         // Assert
-        assertFalse(content.getLikes().contains(liker));
-        verify(contentRepository).save(content);
+        verify(contentRepository, never()).insertLike(any(), any());
+        verify(contentRepository).adjustLikeCount(10L, -1);
         verify(notificationService, never()).createNotification(any(), any(), any(), any());
+
+        ArgumentCaptor<ContentChangedEvent> event = ArgumentCaptor.forClass(ContentChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ContentChangedEvent.Type.UNLIKED, event.getValue().getType()); // trending score goes down
+    }
+
+    @Test
+    void setLike_WhenAlreadyLiked_ChangesNothing() {
+        User owner = new User(); owner.setId(1L);
+        User liker = new User(); liker.setId(2L);
+
+        when(contentRepository.findById(10L)).thenReturn(Optional.of(content(owner)));
+        when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(contentRepository.insertLike(10L, 2L)).thenReturn(0); // INSERT IGNORE hit the existing row
+
+        interactionService.setLike(10L, "liker@test.com", true);
+
+        verify(contentRepository, never()).adjustLikeCount(any(), anyInt());
+        verifyNoInteractions(notificationService, contentCounterCache, contentVersions, eventPublisher);
+    }
+
+    @Test
+    void setLike_Unlike_DeletesSingleRow() {
+        User owner = new User(); owner.setId(1L); owner.setEmail("owner@test.com");
+        User liker = new User(); liker.setId(2L);
+
+        when(contentRepository.findById(10L)).thenReturn(Optional.of(content(owner)));
+        when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(contentRepository.deleteLike(10L, 2L)).thenReturn(1);
+
+        interactionService.setLike(10L, "liker@test.com", false);
+
+        verify(contentRepository, never()).insertLike(any(), any());
+        verify(contentRepository).adjustLikeCount(10L, -1);
+        verify(uploaderTotalsCache).evict("owner@test.com");
+    }
+
+    @Test
+    void toggleLike_WithWriteBehind_OnlyRecordsIntent() {
+        User liker = new User(); liker.setId(2L); liker.setEmail("liker@test.com");
+
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(contentRepository.existsById(10L)).thenReturn(true);
+        when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(likeWriteBuffer.bufferedState(10L, "liker@test.com")).thenReturn(Optional.empty());
+        when(contentRepository.isLikedBy(10L, 2L)).thenReturn(false);
+
+        interactionService.toggleLike(10L, "liker@test.com");
+
+        verify(likeWriteBuffer).record(10L, 2L, "liker@test.com", true, false);
+        verify(contentVersions).feedChanged();
+        verify(contentRepository, never()).insertLike(any(), any());
+        verify(contentRepository, never()).adjustLikeCount(any(), anyInt());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void setLike_WithWriteBehind_UsesBufferedStateInsteadOfDatabase() {
+        User liker = new User(); liker.setId(2L); liker.setEmail("liker@test.com");
+
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(contentRepository.existsById(10L)).thenReturn(true);
+        when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(likeWriteBuffer.bufferedState(10L, "liker@test.com")).thenReturn(Optional.of(true)); // liked, not flushed yet
+
+        interactionService.setLike(10L, "liker@test.com", true);
+
+        verify(contentRepository, never()).isLikedBy(any(), any());
+        verify(likeWriteBuffer, never()).record(any(), any(), any(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void getLikers_LoadsOnlyThePageUsers() {
+        User dave = new User(); dave.setId(7L); dave.setName("Dave");
+        User erin = new User(); erin.setId(9L); erin.setEmail("erin@test.com");
+
+        when(contentRepository.findLikerIds(eq(10L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(7L, 9L), PageRequest.of(1, 20), 42));
+        when(userRepository.findAllById(List.of(7L, 9L))).thenReturn(List.of(erin, dave)); // any order
+
+        Page<LikerResponseDTO> page = interactionService.getLikers(10L, 1, 20);
+
+        assertEquals(42, page.getTotalElements());
+        assertEquals(List.of("Dave", "erin@test.com"), page.getContent().stream().map(LikerResponseDTO::getName).toList());
+    }
+
+    @Test
+    void setLike_WithWriteBehind_ReadsMembershipFromDatabase() {
+        User liker = new User(); liker.setId(2L); liker.setEmail("liker@test.com");
+
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(contentRepository.existsById(10L)).thenReturn(true);
+        when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(likeWriteBuffer.bufferedState(10L, "liker@test.com")).thenReturn(Optional.empty());
+        when(contentRepository.isLikedBy(10L, 2L)).thenReturn(false);
+
+        interactionService.setLike(10L, "liker@test.com", true);
+
+        verify(likeWriteBuffer).record(10L, 2L, "liker@test.com", true, false);
     }
 
     @Test
@@ -105,22 +250,158 @@ class InteractionServiceImplTest {
 
         // Assert
         assertEquals("Nice!", result.getText());
+        verify(contentRepository).adjustCommentCount(10L, 1);
+        verify(contentCounterCache).evict(10L);
+        verify(contentVersions).commentsChanged(10L);
         verify(notificationService).createNotification(eq(owner), eq(commenter), eq(content), eq(NotificationType.COMMENT));
     }
 
     @Test
-    void getComments_ReturnsList() {
+    void getComments_FirstPage_LoadsAuthorsInOneQuery_AndReturnsCursor() {
         // Arrange
-        User user = new User(); user.setName("Dave");
-        Comment c = new Comment(); c.setId(1L); c.setText("Hi"); c.setUser(user);
+        LocalDateTime now = LocalDateTime.now();
+        when(commentRepository.findCommentRowsHead(eq(10L), any(Pageable.class))).thenReturn(List.of(
+                new CommentRow(3L, "Hi", now, "Dave", "dave@test.com", null),
+                new CommentRow(2L, "Hey", now.minusMinutes(1), null, "erin@test.com", null),
+                new CommentRow(1L, "Yo", now.minusMinutes(2), "Finn", "finn@test.com", null)));
 
-        when(commentRepository.findByCourseContentIdOrderByCreatedAtDesc(10L)).thenReturn(List.of(c));
+        // Act
+        CursorPageResponseDTO<CommentResponseDTO> result = interactionService.getComments(10L, null, 2);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertEquals("Dave", result.getItems().get(0).getUsername());
+        assertEquals("erin@test.com", result.getItems().get(1).getUsername()); // no name => email
+        assertTrue(result.isHasNext());
+        assertEquals(new FeedCursor(now.minusMinutes(1), 2L).encode(), result.getNextCursor());
+    }
+
+    @Test
+    void getComments_AfterCursor_UsesKeysetQuery() {
+        LocalDateTime at = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new FeedCursor(at, 5L).encode();
+        when(commentRepository.findCommentRowsAfter(eq(10L), eq(at), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(new CommentRow(4L, "Older", at.minusDays(1), "Dave", "dave@test.com", null)));
+
+        CursorPageResponseDTO<CommentResponseDTO> result = interactionService.getComments(10L, cursor, 20);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(commentRepository, never()).findCommentRowsHead(any(), any());
+    }
+
+    @Test
+    void applyBatch_ReplaysInOrder_AndWritesNetChangesInBatches() {
+        // Arrange
+        User owner = new User(); owner.setId(1L); owner.setEmail("owner@test.com");
+        User me = new User(); me.setId(2L); me.setEmail("me@test.com");
+        CourseContent first = content(owner);
+        CourseContent second = content(owner); second.setId(11L);
+
+        when(userRepository.findByEmail("me@test.com")).thenReturn(Optional.of(me));
+        when(contentRepository.findAllById(any())).thenReturn(List.of(first, second));
+        when(contentRepository.findLikedContentIds(eq("me@test.com"), any())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT IGNORE"), anyList())).thenReturn(new int[]{1});
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenAnswer(inv -> {
+                    inv.getArgument(2, KeyHolder.class).getKeyList().add(Map.of("GENERATED_KEY", 500L));
+                    return new int[]{1};
+                });
 
         // Act
-        List<CommentResponseDTO> result = interactionService.getComments(10L);
+        List<InteractionResultDTO> results = interactionService.applyBatch(List.of(
+                new InteractionOperation(InteractionOperation.Type.LIKE, 10L, null),
+                new InteractionOperation(InteractionOperation.Type.UNLIKE, 10L, null), // cancels the like above
+                new InteractionOperation(InteractionOperation.Type.TOGGLE_LIKE, 11L, null),
+                new InteractionOperation(InteractionOperation.Type.COMMENT, 11L, "Offline!"),
+                new InteractionOperation(InteractionOperation.Type.LIKE, 99L, null)), "me@test.com");
 
         // Assert
-        assertEquals(1, result.size());
-        assertEquals("Dave", result.get(0).getUsername());
+        assertEquals(List.of(InteractionResultDTO.Status.APPLIED, InteractionResultDTO.Status.APPLIED,
+                        InteractionResultDTO.Status.APPLIED, InteractionResultDTO.Status.APPLIED, InteractionResultDTO.Status.FAILED),
+                results.stream().map(InteractionResultDTO::getStatus).toList());
+        assertEquals(500L, results.get(3).getComment().getId());
+
+        // Only the net like on item 11 is written; item 10 never reaches the database
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT IGNORE"),
+                ArgumentMatchers.<List<Object[]>>argThat(args -> args.size() == 1 && Arrays.equals(args.get(0), new Object[]{11L, 2L})));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE course_contents"),
+                ArgumentMatchers.<List<Object[]>>argThat(args -> args.size() == 1 && Arrays.equals(args.get(0), new Object[]{1, 1, 11L})));
+
+        // One notification write, one invalidation per touched key, one feed version bump
+        verify(notificationService).createNotifications(argThat(list -> list.size() == 2));
+        verify(notificationService, never()).createNotification(any(), any(), any(), any());
+        verify(contentCounterCache).evict(11L);
+        verify(contentCounterCache, never()).evict(10L);
+        verify(uploaderTotalsCache, times(1)).evict("owner@test.com");
+        verify(contentVersions).commentsChanged(11L); // retires the cached first comment page
+        verify(contentVersions, times(1)).feedChanged();
+        verify(eventPublisher, times(2)).publishEvent(any(ContentChangedEvent.class));
+    }
+
+    @Test
+    void applyBatch_WithWriteBehind_FailedCommentInsert_LeavesBufferUntouched() {
+        User owner = new User(); owner.setId(1L);
+        User me = new User(); me.setId(2L); me.setEmail("me@test.com");
+        CourseContent content = content(owner);
+
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(userRepository.findByEmail("me@test.com")).thenReturn(Optional.of(me));
+        when(contentRepository.findAllById(any())).thenReturn(List.of(content));
+        when(contentRepository.findLikedContentIds(eq("me@test.com"), any())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenThrow(new DataIntegrityViolationException("comment rejected"));
+
+        TransactionSynchronizationManager.initSynchronization(); // as inside the @Transactional method
+        try {
+            assertThrows(DataIntegrityViolationException.class, () -> interactionService.applyBatch(List.of(
+                    new InteractionOperation(InteractionOperation.Type.LIKE, 10L, null),
+                    new InteractionOperation(InteractionOperation.Type.COMMENT, 10L, "Offline!")), "me@test.com"));
+            // Rolled back: the registered after-commit work never runs
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(likeWriteBuffer, never()).record(any(), any(), any(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void toggleLike_WithWriteBehind_RecordsOnlyAfterCommit() {
+        User liker = new User(); liker.setId(2L); liker.setEmail("liker@test.com");
+
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(contentRepository.existsById(10L)).thenReturn(true);
+        when(userRepository.findByEmail("liker@test.com")).thenReturn(Optional.of(liker));
+        when(contentRepository.isLikedBy(10L, 2L)).thenReturn(false);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            interactionService.toggleLike(10L, "liker@test.com");
+            verify(likeWriteBuffer, never()).record(any(), any(), any(), anyBoolean(), anyBoolean());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(likeWriteBuffer).record(10L, 2L, "liker@test.com", true, false);
+    }
+
+    @Test
+    void applyBatch_TooManyOperations_IsRejected() {
+        List<InteractionOperation> operations = Collections.nCopies(201,
+                new InteractionOperation(InteractionOperation.Type.LIKE, 10L, null));
+
+        assertThrows(InvalidBatchException.class, () -> interactionService.applyBatch(operations, "me@test.com"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private CourseContent content(User owner) {
+        CourseContent content = new CourseContent();
+        content.setId(10L);
+        content.setUser(owner);
+        return content;
     }
-}
\ No newline at end of file
+}
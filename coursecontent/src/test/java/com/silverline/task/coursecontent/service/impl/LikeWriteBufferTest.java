@@ -0,0 +1,169 @@
+package com.silverline.task.coursecontent.service.impl;
+
+import com.silverline.task.coursecontent.cache.ContentCounterCache;
+import com.silverline.task.coursecontent.cache.ContentVersions;
+import com.silverline.task.coursecontent.cache.UploaderTotalsCache;
+import com.silverline.task.coursecontent.event.ContentChangedEvent;
+import com.silverline.task.coursecontent.model.CourseContent;
+import com.silverline.task.coursecontent.model.NotificationType;
+import com.silverline.task.coursecontent.model.User;
+import com.silverline.task.coursecontent.repository.CourseContentRepository;
+import com.silverline.task.coursecontent.repository.UserRepository;
+import com.silverline.task.coursecontent.service.NotificationService;
+import com.silverline.task.coursecontent.service.NotificationService.NotificationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBufferTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private CourseContentRepository contentRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private NotificationService notificationService;
+    @Mock private ContentCounterCache contentCounterCache;
+    @Mock private UploaderTotalsCache uploaderTotalsCache;
+    @Mock private ContentVersions contentVersions;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private LikeWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LikeWriteBuffer(jdbcTemplate, transactionTemplate, contentRepository, userRepository,
+                notificationService, contentCounterCache, uploaderTotalsCache, contentVersions, eventPublisher,
+                new SimpleMeterRegistry(), true, 100, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void repeatedToggles_CoalesceAndAreVisibleToReads() {
+        buffer.record(10L, 2L, "a@test.com", true, false);
+        buffer.record(10L, 3L, "b@test.com", true, false);
+
+        assertEquals(2, buffer.likeDelta(10L));
+        assertEquals(Map.of(10L, true), buffer.likedOverrides("a@test.com", List.of(10L, 11L)));
+
+        buffer.record(10L, 2L, "a@test.com", false, true); // a toggles back before any flush
+
+        assertEquals(1, buffer.likeDelta(10L));
+        assertTrue(buffer.bufferedState(10L, "a@test.com").isEmpty()); // nothing left to write for a
+    }
+
+    @Test
+    void flush_WritesOneBatchAndAppliesRealRowCounts() {
+        User owner = new User(); owner.setId(1L); owner.setEmail("owner@test.com");
+        User liker = new User(); liker.setId(2L);
+        CourseContent content = new CourseContent(); content.setId(10L); content.setUser(owner);
+
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT IGNORE"), anyList())).thenReturn(new int[]{1});
+        when(contentRepository.findAllById(any())).thenReturn(List.of(content));
+        when(userRepository.findAllById(any())).thenReturn(List.of(liker));
+
+        buffer.record(10L, 2L, "liker@test.com", true, false);
+        buffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE course_contents"),
+                ArgumentMatchers.<List<Object[]>>argThat(args -> args.size() == 1 && Arrays.equals(args.get(0), new Object[]{1, 10L})));
+        verify(notificationService).createNotifications(List.of(new NotificationRequest(owner, liker, content, NotificationType.LIKE)));
+        verify(notificationService, never()).createNotification(any(), any(), any(), any());
+        verify(eventPublisher).publishEvent(any(ContentChangedEvent.class));
+        verify(contentCounterCache).evict(10L);
+        verify(uploaderTotalsCache).evict("owner@test.com");
+        assertEquals(0, buffer.likeDelta(10L)); // now part of the committed counter
+        assertTrue(buffer.bufferedState(10L, "liker@test.com").isEmpty());
+    }
+
+    @Test
+    void failedFlush_KeepsIntentsForTheNextTick() {
+        when(transactionTemplate.execute(any())).thenThrow(new RuntimeException("deadlock"));
+
+        buffer.record(10L, 2L, "liker@test.com", true, false);
+        buffer.flush();
+
+        assertEquals(1, buffer.likeDelta(10L));
+        assertEquals(true, buffer.bufferedState(10L, "liker@test.com").orElseThrow());
+        verifyNoInteractions(contentCounterCache);
+    }
+
+    @Test
+    void drain_WaitsForTheBatchAnotherThreadIsFlushing() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> {
+                    writing.countDown();
+                    release.await();
+                    return Set.of();
+                })
+                .thenAnswer(inv -> Set.of());
+
+        buffer.record(10L, 2L, "a@test.com", true, false);
+        Thread scheduler = new Thread(buffer::flush);
+        scheduler.start();
+        assertTrue(writing.await(5, TimeUnit.SECONDS)); // the scheduler's batch is now in flight
+        buffer.record(11L, 2L, "a@test.com", true, false);
+
+        Thread releaser = new Thread(() -> {
+            sleepQuietly(100);
+            release.countDown();
+        });
+        releaser.start();
+        buffer.drain(); // must not return while the first batch is still being written
+        scheduler.join();
+        releaser.join();
+
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(contentCounterCache).evict(10L);
+        verify(contentCounterCache).evict(11L);
+        assertEquals(0, buffer.likeDelta(10L));
+        assertEquals(0, buffer.likeDelta(11L));
+    }
+
+    @Test
+    void drain_RetriesAFailedFlush() {
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new RuntimeException("deadlock"))
+                .thenAnswer(inv -> Set.of());
+
+        buffer.record(10L, 2L, "liker@test.com", true, false);
+        buffer.drain();
+
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(contentCounterCache).evict(10L);
+        assertEquals(0, buffer.likeDelta(10L));
+        assertTrue(buffer.bufferedState(10L, "liker@test.com").isEmpty());
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.silverline.task.coursecontent.service.impl;
 import com.silverline.task.coursecontent.controller.dto.response.NotificationResponseDTO;
 import com.silverline.task.coursecontent.model.*;
 import com.silverline.task.coursecontent.repository.NotificationRepository;
+import com.silverline.task.coursecontent.service.NotificationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +42,21 @@ class NotificationServiceImplTest {
         verify(notificationRepository, never()).save(any());
     }
 
+    @Test
+    void createNotifications_SavesAllInOneCall_SkippingSelfNotifications() {
+        User owner = new User(); owner.setId(1L);
+        User actor = new User(); actor.setId(2L); actor.setName("John");
+        CourseContent content = new CourseContent(); content.setFileName("Test.pdf");
+
+        notificationService.createNotifications(List.of(
+                new NotificationService.NotificationRequest(owner, actor, content, NotificationType.LIKE),
+                new NotificationService.NotificationRequest(owner, actor, content, NotificationType.COMMENT),
+                new NotificationService.NotificationRequest(actor, actor, content, NotificationType.COMMENT)));
+
+        verify(notificationRepository).saveAll(ArgumentMatchers.<Iterable<Notification>>argThat(list -> ((List<?>) list).size() == 2));
+        verify(notificationRepository, never()).save(any());
+    }
+
     @Test
     void createNotification_ShouldSaveLikeNotification() {
         // Arrange
@@ -0,0 +1,116 @@
+package com.silverline.task.coursecontent.trending;
+
+import com.silverline.task.coursecontent.repository.projection.ContentFeedRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingIndexTest {
+
+    private final TrendingIndex index = new TrendingIndex(Duration.ofHours(24));
+
+    @Test
+    void recentEngagement_OutranksOlderEngagementOfSameSize() {
+        Instant now = Instant.now();
+        index.record(1L, 1L, TrendingIndex.Signal.LIKE, now.minus(Duration.ofDays(3)));
+        index.record(1L, 2L, TrendingIndex.Signal.LIKE, now.minus(Duration.ofDays(3)));
+        index.record(2L, 1L, TrendingIndex.Signal.LIKE, now);
+        index.record(2L, 2L, TrendingIndex.Signal.LIKE, now);
+
+        assertEquals(List.of(2L, 1L), index.page(0, 10).contentIds());
+    }
+
+    @Test
+    void score_HalvesEveryHalfLife() {
+        Instant start = Instant.now();
+        index.record(1L, 1L, TrendingIndex.Signal.COMMENT, start);
+
+        assertEquals(2.0, index.score(1L, start), 1e-9);
+        assertEquals(1.0, index.score(1L, start.plus(Duration.ofHours(24))), 1e-9);
+    }
+
+    @Test
+    void unlikeAndRemove_UpdateRanking() {
+        Instant now = Instant.now();
+        index.record(1L, 1L, TrendingIndex.Signal.LIKE, now);
+        index.record(1L, 2L, TrendingIndex.Signal.LIKE, now);
+        index.record(1L, 3L, TrendingIndex.Signal.LIKE, now);
+        index.record(2L, 1L, TrendingIndex.Signal.COMMENT, now);
+        index.record(2L, 4L, TrendingIndex.Signal.LIKE, now);
+        index.record(2L, 5L, TrendingIndex.Signal.LIKE, now);
+
+        index.record(2L, 4L, TrendingIndex.Signal.UNLIKE, now);
+        index.record(2L, 4L, TrendingIndex.Signal.UNLIKE, now); // already taken back: no-op
+        index.record(2L, 5L, TrendingIndex.Signal.UNLIKE, now); // 4 - 2 = 2 < 3
+        assertEquals(List.of(1L, 2L), index.page(0, 10).contentIds());
+
+        index.remove(1L);
+        TrendingIndex.TrendingPage page = index.page(0, 10);
+        assertEquals(1, page.total());
+        assertEquals(List.of(2L), page.contentIds());
+    }
+
+    @Test
+    void unlike_TakesBackTheDecayedWeightOfTheOriginalLike() {
+        Instant now = Instant.now();
+        index.record(1L, 5L, TrendingIndex.Signal.LIKE, now.minus(Duration.ofHours(24))); // worth 0.5 now
+        index.record(1L, 6L, TrendingIndex.Signal.COMMENT, now);
+
+        index.record(1L, 5L, TrendingIndex.Signal.UNLIKE, now);
+
+        assertEquals(2.0, index.score(1L, now), 1e-9); // not 2 + 0.5 - 1
+    }
+
+    @Test
+    void rebuild_SeedsFromCountersAndPaginates() {
+        LocalDateTime today = LocalDateTime.now();
+        index.rebuild(List.of(
+                row(1L, today.minusDays(10), 50, 10),
+                row(2L, today, 5, 0),
+                row(3L, today.minusDays(1), 0, 0)));
+
+        // 6 (today) > 1 / 2 (yesterday) > 71 / 2^10 (ten days ago)
+        assertEquals(List.of(2L), index.page(0, 1).contentIds());
+        assertEquals(List.of(3L, 1L), index.page(1, 2).contentIds());
+    }
+
+    @Test
+    void rebuild_KeepsLiveTimingAndDoesNotCountLiveLikesTwice() {
+        LocalDateTime tenDaysAgo = LocalDateTime.now().minusDays(10);
+        double upload = Math.pow(2, -10);
+        index.rebuild(List.of(row(1L, tenDaysAgo, 1, 0)));
+        index.record(1L, 7L, TrendingIndex.Signal.LIKE, Instant.now());
+
+        index.beginRebuild();
+        index.rebuild(List.of(row(1L, tenDaysAgo, 2, 0))); // the counter now includes the live like
+
+        assertEquals(2 * upload + 1, index.score(1L, Instant.now()), 1e-3);
+
+        index.record(1L, 7L, TrendingIndex.Signal.UNLIKE, Instant.now()); // live like: full weight back
+        index.record(1L, 8L, TrendingIndex.Signal.UNLIKE, Instant.now()); // counted like: weight at upload time
+        assertEquals(upload, index.score(1L, Instant.now()), 1e-3);
+    }
+
+    @Test
+    void rebuild_KeepsItemsCreatedAndDropsItemsDeletedWhileLoading() {
+        LocalDateTime today = LocalDateTime.now();
+        index.rebuild(List.of(row(1L, today, 0, 0)));
+
+        index.beginRebuild();
+        index.record(2L, 1L, TrendingIndex.Signal.UPLOAD, Instant.now()); // after the rows were read
+        index.remove(1L);
+        index.rebuild(List.of(row(1L, today, 0, 0)));
+
+        assertEquals(List.of(2L), index.page(0, 10).contentIds());
+    }
+
+    private ContentFeedRow row(Long id, LocalDateTime uploaded, int likes, int comments) {
+        return new ContentFeedRow(id, "f" + id, null, "application/pdf", 1L, uploaded, null,
+                "U", "u@test.com", null, likes, comments);
+    }
+}